@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# starts a local cluster of geopulse backends on consecutive ports, ctrl-c stops them all
+# usage: scripts/run-cluster.sh [nodes] [first-port]
+set -euo pipefail
+
+NODES=${1:-3}
+FIRST_PORT=${2:-8080}
+cd "$(dirname "$0")/.."
+
+JAR=$(ls target/geopolitics-backend-*.jar 2>/dev/null | head -n 1 || true)
+if [ -z "$JAR" ]; then
+    mvn -B -q package -DskipTests
+    JAR=$(ls target/geopolitics-backend-*.jar | head -n 1)
+fi
+
+MEMBERS=""
+for ((i = 0; i < NODES; i++)); do
+    MEMBERS+="${MEMBERS:+,}http://localhost:$((FIRST_PORT + i))/api"
+done
+
+# peers authenticate to each other with a shared secret, a fresh one per run unless given
+SECRET=${CLUSTER_SECRET:-$(head -c 24 /dev/urandom | base64 | tr -d '/+=')}
+
+PIDS=()
+trap 'kill "${PIDS[@]}" 2>/dev/null' EXIT INT TERM
+
+for ((i = 0; i < NODES; i++)); do
+    PORT=$((FIRST_PORT + i))
+    DATA="data/node$i"
+    mkdir -p "$DATA"
+    java -jar "$JAR" \
+        --server.port="$PORT" \
+        --cluster.enabled=true \
+        --cluster.self-url="http://localhost:$PORT/api" \
+        --cluster.members="$MEMBERS" \
+        --cluster.secret="$SECRET" \
+        --timeseries.data-dir="$DATA/timeseries" \
+        --cache.warm.data-file="$DATA/popularity.bin" \
+        --profiling.dump-dir="$DATA/recordings" \
+        --export.data-dir="$DATA/export" \
+        > "$DATA/app.log" 2>&1 &
+    PIDS+=($!)
+    echo "node $i on port $PORT (pid $!, log $DATA/app.log)"
+done
+
+echo "members: $MEMBERS"
+wait
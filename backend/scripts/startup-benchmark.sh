@@ -0,0 +1,124 @@
+#!/usr/bin/env bash
+# compares cold starts: startup time as spring reports it, and time to the first answered country request
+# usage: scripts/startup-benchmark.sh [runs] [port] [country]
+#
+# the first request is a real /api/countries/<country> lookup, not /api/health: lazily created
+# beans (country data, cache, news) are only initialized by it, so their cost shows up here.
+# APP_ARGS is passed to every run, e.g. APP_ARGS="--countries.api.url=http://localhost:8999"
+#
+# modes measured:
+#   default            jpa + hibernate + h2, eager beans
+#   fast-startup       in-memory country cache, lazy beans, no datasource
+#   fast-startup+cds   the same from an unpacked jar with a class data sharing archive
+#   +aot               the fast-startup modes again with spring aot, if the jar was built with -Paot
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${2:-18080}
+COUNTRY=${3:-Germany}
+cd "$(dirname "$0")/.."
+ROOT=$(pwd)
+
+JAR=$(ls target/geopolitics-backend-*.jar 2>/dev/null | head -n 1 || true)
+if [ -z "$JAR" ]; then
+    mvn -B -q package -DskipTests
+    JAR=$(ls target/geopolitics-backend-*.jar | head -n 1)
+fi
+JAR="$ROOT/$JAR"
+
+# cds only archives classes loaded from plain jars (directories aren't allowed either),
+# so the fat jar is unpacked and the app's own classes repacked into one
+CDS_DIR="$ROOT/target/cds"
+rm -rf "$CDS_DIR"
+mkdir -p "$CDS_DIR/unpacked"
+(cd "$CDS_DIR/unpacked" && jar -xf "$JAR")
+jar -cf "$CDS_DIR/application.jar" -C "$CDS_DIR/unpacked/BOOT-INF/classes" .
+mv "$CDS_DIR/unpacked/BOOT-INF/lib" "$CDS_DIR/lib"
+CLASSPATH_ARGS=(-cp "$CDS_DIR/application.jar:$CDS_DIR/lib/*" com.geopulse.GeoPulseApplication)
+
+HAS_AOT=false
+if ls "$CDS_DIR/unpacked/BOOT-INF/classes/com/geopulse/"*__ApplicationContextInitializer.class >/dev/null 2>&1; then
+    HAS_AOT=true
+fi
+
+# each run gets a throwaway working dir so data/ files don't carry over between runs
+WORK=$(mktemp -d)
+trap 'rm -rf "$WORK"' EXIT
+
+# training run: start the context, exit once it has refreshed, dump every loaded class
+train() {
+    local archive=$1; shift
+    (cd "$WORK" && java -XX:ArchiveClassesAtExit="$archive" -Dspring.context.exit=onRefresh \
+        "$@" "${CLASSPATH_ARGS[@]}" > "$WORK/train.log" 2>&1) || true
+    if [ ! -f "$archive" ]; then
+        echo "cds training run failed, see below" >&2
+        grep -i "error" "$WORK/train.log" >&2 || true
+        exit 1
+    fi
+}
+
+# prints "<startup ms> <first request ms>" for one cold start, both counted from launch
+measure() {
+    local log="$WORK/run.log"
+    local begin end started
+    rm -rf "$WORK/data"
+
+    begin=$(date +%s%N)
+    # shellcheck disable=SC2086
+    (cd "$WORK" && exec java "$@" --server.port="$PORT" ${APP_ARGS:-} > "$log" 2>&1) &
+    local pid=$!
+
+    until curl -sf -o /dev/null "http://localhost:$PORT/api/health"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "startup failed, see $log" >&2
+            cat "$log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    # health only says the server is listening, the first real request pays for lazy init
+    if ! curl -sf -o /dev/null "http://localhost:$PORT/api/countries/$COUNTRY"; then
+        echo "first request for $COUNTRY failed, see $log" >&2
+        kill "$pid"
+        exit 1
+    fi
+    end=$(date +%s%N)
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+
+    # "Started GeoPulseApplication in 2.345 seconds (process running for 2.9)"
+    started=$(grep -o 'Started GeoPulseApplication in [0-9.]*' "$log" | awk '{print int($4 * 1000)}')
+    echo "${started:-0} $(( (end - begin) / 1000000 ))"
+}
+
+bench() {
+    local name=$1; shift
+    local total_startup=0 total_first=0 startup first
+    for ((i = 0; i < RUNS; i++)); do
+        read -r startup first < <(measure "$@") || { echo "$name: startup failed" >&2; exit 1; }
+        total_startup=$((total_startup + startup))
+        total_first=$((total_first + first))
+    done
+    printf "%-24s %12d %20d\n" "$name" $((total_startup / RUNS)) $((total_first / RUNS))
+}
+
+FAST=(-Dspring.profiles.active=fast-startup)
+AOT=(-Dspring.aot.enabled=true)
+
+train "$CDS_DIR/fast.jsa" "${FAST[@]}"
+if $HAS_AOT; then
+    train "$CDS_DIR/fast-aot.jsa" "${FAST[@]}" "${AOT[@]}"
+fi
+
+echo "averages over $RUNS cold starts"
+printf "%-24s %12s %20s\n" "mode" "startup ms" "first request ms"
+bench "default" -jar "$JAR"
+bench "fast-startup" "${FAST[@]}" -jar "$JAR"
+bench "fast-startup+cds" -XX:SharedArchiveFile="$CDS_DIR/fast.jsa" "${FAST[@]}" "${CLASSPATH_ARGS[@]}"
+if $HAS_AOT; then
+    bench "fast-startup+aot" "${FAST[@]}" "${AOT[@]}" -jar "$JAR"
+    bench "fast-startup+aot+cds" -XX:SharedArchiveFile="$CDS_DIR/fast-aot.jsa" "${FAST[@]}" "${AOT[@]}" "${CLASSPATH_ARGS[@]}"
+else
+    echo "(build with mvn -Paot package to include the aot modes)"
+fi
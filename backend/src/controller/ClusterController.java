@@ -0,0 +1,88 @@
+package com.geopulse.controller;
+
+import com.geopulse.model.CountryInfo;
+import com.geopulse.model.CountryNotFoundException;
+import com.geopulse.service.ClusterService;
+import com.geopulse.service.CountryCacheService;
+import com.geopulse.service.CountryDataService;
+import com.geopulse.service.NewsScrapingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// node-to-node endpoints, these never forward again so a request hops at most once.
+// only peers holding cluster.secret get answers, to anyone else they don't exist
+@RestController
+@RequestMapping("/cluster")
+public class ClusterController {
+
+    @Autowired
+    private ClusterService clusterService;
+
+    @Autowired
+    private CountryCacheService countryCacheService;
+
+    @Autowired
+    private CountryDataService countryDataService;
+
+    @Autowired
+    private NewsScrapingService newsScrapingService;
+
+    @GetMapping("/ping")
+    public ResponseEntity<Map<String, Object>> ping(@RequestHeader(value = ClusterService.CLUSTER_TOKEN_HEADER, required = false) String token) {
+        if (!clusterService.isPeer(token)) {
+            return ResponseEntity.status(404).build();
+        }
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("node", clusterService.getSelfUrl());
+        status.put("enabled", clusterService.isEnabled());
+        status.put("members", clusterService.getMembers());
+        status.put("live", clusterService.getLiveMembers());
+        return ResponseEntity.ok(status);
+    }
+
+    // country facts as the owner sees them, fetched and cached here on a miss
+    @GetMapping("/countries/{countryName}")
+    public ResponseEntity<Object> getCountry(@PathVariable String countryName,
+                                             @RequestHeader(value = ClusterService.CLUSTER_TOKEN_HEADER, required = false) String token) {
+        if (!clusterService.isPeer(token)) return notFound();
+
+        try {
+            CountryInfo cached = countryCacheService.getCachedCountryInfo(countryName);
+            if (cached != null && cached.isFactsValid()) {
+                return ResponseEntity.ok(cached);
+            }
+
+            CountryInfo fresh = countryDataService.fetchCountryDataLocally(countryName);
+            countryCacheService.cacheCountryInfo(fresh);
+            return ResponseEntity.ok(fresh);
+
+        } catch (CountryNotFoundException e) {
+            return ResponseEntity.status(404).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            System.err.println("Error serving cluster lookup for " + countryName + ": " + e.getMessage());
+            return ResponseEntity.status(502).body(Map.of("error", "Upstream lookup failed"));
+        }
+    }
+
+    // this node's latest scrape of a feed it owns
+    @GetMapping("/feeds")
+    public ResponseEntity<Object> getFeed(@RequestParam String url,
+                                          @RequestHeader(value = ClusterService.CLUSTER_TOKEN_HEADER, required = false) String token) {
+        if (!clusterService.isPeer(token)) return notFound();
+
+        // only feeds we know about, this must not become an open proxy
+        if (!newsScrapingService.getKnownFeeds().contains(url)) {
+            return ResponseEntity.status(404).body(Map.of("error", "Unknown feed"));
+        }
+        return ResponseEntity.ok(newsScrapingService.fetchFeedLocally(url, null));
+    }
+
+    private ResponseEntity<Object> notFound() {
+        return ResponseEntity.status(404).body(Map.of("error", "Not found"));
+    }
+}
@@ -1,76 +1,181 @@
 package com.geopulse.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.geopulse.model.CountryInfo;
 import com.geopulse.model.CountryNotFoundException;
+import com.geopulse.model.CountryProjection;
 import com.geopulse.model.NewsArticle;
+import com.geopulse.service.AdmissionControlService;
+import com.geopulse.service.CacheWarmingService;
+import com.geopulse.service.CountryCacheService;
 import com.geopulse.service.CountryDataService;
+import com.geopulse.service.CountryNewsLog;
 import com.geopulse.service.NewsScrapingService;
+import com.geopulse.service.NewsStreamService;
+import com.geopulse.service.RepresentationCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.TypedQuery;
-import jakarta.transaction.Transactional;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @RestController
 @RequestMapping("/countries")
 @CrossOrigin(origins = "http://localhost:3000")
 public class CountryController {
     
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    
     @Autowired
     private CountryDataService countryDataService;
     
     @Autowired
     private NewsScrapingService newsScrapingService;
     
-    @PersistenceContext
-    private EntityManager entityManager;
+    @Autowired
+    private NewsStreamService newsStreamService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private CountryCacheService countryCacheService;
+    
+    @Autowired
+    private AdmissionControlService admissionControlService;
+    
+    @Autowired
+    private CacheWarmingService cacheWarmingService;
+    
+    @Autowired
+    private RepresentationCache representationCache;
+    
+    @Autowired
+    private CountryNewsLog countryNewsLog;
+    
+    @Value("${admission.upstream-timeout-ms:12000}")
+    private long upstreamTimeoutMs;
     
+    // fields=flagEmoji,geopoliticalRiskIndex projects the response; newsLimit/newsCursor page the news
     @GetMapping("/{countryName}")
-    @Transactional
-    public ResponseEntity<CountryInfo> getCountryInfo(@PathVariable String countryName) {
+    public ResponseEntity<Object> getCountryInfo(@PathVariable String countryName, 
+                                                 @RequestParam(required = false) String fields,
+                                                 @RequestParam(required = false) Integer newsLimit,
+                                                 @RequestParam(required = false) String newsCursor,
+                                                 HttpServletRequest request) {
         try {
             // validate input
-            if (countryName == null || countryName.trim().isEmpty()) {
+            String validationError = validateCountryName(countryName);
+            if (validationError != null) {
                 return ResponseEntity.badRequest().body(
-                    createErrorCountryInfo("", "Country name cannot be empty"));
+                    createErrorCountryInfo(countryName == null ? "" : countryName.trim(), validationError));
             }
             
-            // clean & validate country name
             String cleanCountryName = countryName.trim();
-            if (cleanCountryName.length() < 2) {
+            
+            CountryProjection projection;
+            String afterNewsKey;
+            try {
+                projection = CountryProjection.parse(fields);
+                afterNewsKey = newsCursor == null ? null 
+                    : new String(Base64.getUrlDecoder().decode(newsCursor), StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+            }
+            if (newsLimit != null && (newsLimit < 1 || newsLimit > NewsScrapingService.MAX_ARTICLES)) {
                 return ResponseEntity.badRequest().body(
-                    createErrorCountryInfo(cleanCountryName, "Country name must be at least 2 characters long"));
+                    Map.of("error", "newsLimit must be between 1 and " + NewsScrapingService.MAX_ARTICLES));
             }
             
-            // check for obviously invalid input (numbers, special characters)
-            if (cleanCountryName.matches(".*[0-9].*") || 
-                cleanCountryName.matches(".*[!@#$%^&*()_+={}\\[\\]:;\"'<>,.?/|\\\\].*")) {
-                return ResponseEntity.badRequest().body(
-                    createErrorCountryInfo(cleanCountryName, "Invalid country name format"));
+            // a projection without news never resolves any
+            boolean includeNews = projection.includesNews();
+            boolean shaped = fields != null || newsLimit != null || newsCursor != null;
+            
+            // per-client rate limit before doing any work
+            if (!admissionControlService.tryConsume(getClientKey(request))) {
+                return ResponseEntity.status(429)
+                    .header("Retry-After", String.valueOf(admissionControlService.getRetryAfterSeconds()))
+                    .body(createErrorCountryInfo(cleanCountryName, 
+                        "Too many requests. Please slow down and try again shortly."));
             }
             
             // check cache first
-            CountryInfo cachedInfo = getCachedCountryInfo(cleanCountryName);
+            CountryInfo cachedInfo = countryCacheService.getCachedCountryInfo(cleanCountryName);
             
-            if (cachedInfo != null && cachedInfo.isCacheValid()) {
-                // add live news data
-                addLiveNewsData(cachedInfo);
-                return ResponseEntity.ok(cachedInfo);
+            if (cachedInfo != null && cachedInfo.isFactsValid()) {
+                cacheWarmingService.recordRequest(cachedInfo.getCountryName());
+                refreshDerivedFields(cachedInfo);
+                
+                // cache hits are always served, stale news is refetched only if there's upstream capacity
+                List<NewsArticle> cachedNews = includeNews 
+                    ? countryCacheService.getCachedNews(cachedInfo.getCountryName()) : null;
+                if (cachedNews != null) {
+                    cachedInfo.setNews(cachedNews);
+                } else if (includeNews) {
+                    AdmissionControlService.Permit permit = admissionControlService.tryAcquireUpstream();
+                    if (permit != null) {
+                        boolean success = addLiveNewsData(cachedInfo);
+                        permit.release(success);
+                    }
+                }
+                return respond(cachedInfo, projection, shaped, newsLimit, afterNewsKey, request);
             }
             
-            // fetch fresh data
-            CountryInfo countryInfo = fetchCompleteCountryData(cleanCountryName);
-            
-            // cache basic country info
-            cacheCountryInfo(countryInfo);
+            // cache miss needs upstream calls, shed early if we're saturated
+            AdmissionControlService.Permit permit = admissionControlService.tryAcquireUpstream();
+            if (permit == null) {
+                return ResponseEntity.status(503)
+                    .header("Retry-After", "5")
+                    .body(createErrorCountryInfo(cleanCountryName, 
+                        "Service is busy right now. Please try again in a moment."));
+            }
             
-            return ResponseEntity.ok(countryInfo);
+            boolean success = false;
+            try {
+                // fetch fresh data, news only if it was asked for and has gone stale too
+                List<NewsArticle> cachedNews = includeNews ? countryCacheService.getCachedNews(cleanCountryName) : null;
+                boolean fetchNews = includeNews && cachedNews == null;
+                CountryInfo countryInfo = fetchNews
+                    ? fetchCompleteCountryData(cleanCountryName)
+                    : fetchCountryFacts(cleanCountryName, cachedNews);
+                success = true;
+                cacheWarmingService.recordRequest(countryInfo.getCountryName());
+                
+                // cache basic country info, news separately with its own ttl
+                countryCacheService.cacheCountryInfo(countryInfo);
+                if (fetchNews) {
+                    countryCacheService.cacheNews(countryInfo.getCountryName(), countryInfo.getNews());
+                }
+                
+                return respond(countryInfo, projection, shaped, newsLimit, afterNewsKey, request);
+            } catch (CountryNotFoundException e) {
+                // upstream answered fine, it's just not a country
+                success = true;
+                throw e;
+            } finally {
+                permit.release(success);
+            }
             
         } catch (CountryNotFoundException e) {
             System.err.println("Country not found: " + e.getMessage());
@@ -83,6 +188,258 @@ public class CountryController {
         }
     }
     
+    // progressive variant: country facts as the first NDJSON line, then news batches per feed
+    @GetMapping(value = "/{countryName}/stream", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCountryInfo(@PathVariable String countryName, 
+                                                                   HttpServletRequest request) {
+        String validationError = validateCountryName(countryName);
+        if (validationError != null) {
+            return ResponseEntity.badRequest().contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(out -> writeLine(out, "error", Map.of("message", validationError)));
+        }
+        
+        String cleanCountryName = countryName.trim();
+        
+        if (!admissionControlService.tryConsume(getClientKey(request))) {
+            return ResponseEntity.status(429)
+                .header("Retry-After", String.valueOf(admissionControlService.getRetryAfterSeconds()))
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(out -> writeLine(out, "error", 
+                    Map.of("message", "Too many requests. Please slow down and try again shortly.")));
+        }
+        
+        CountryInfo cachedInfo = countryCacheService.getCachedCountryInfo(cleanCountryName);
+        boolean cacheHit = cachedInfo != null && cachedInfo.isFactsValid();
+        if (cacheHit) {
+            refreshDerivedFields(cachedInfo);
+        }
+        
+        // fresh cached news, or enough of it in the mention index, is served without touching a feed
+        List<NewsArticle> cachedNews = countryCacheService.getCachedNews(cleanCountryName);
+        List<NewsArticle> indexedNews = cachedNews != null ? List.of() 
+            : newsScrapingService.getIndexedNews(cleanCountryName);
+        List<NewsArticle> readyNews = cachedNews != null ? cachedNews
+            : indexedNews.size() >= NewsScrapingService.MIN_INDEXED_ARTICLES ? indexedNews : null;
+        
+        // a permit is only needed for upstream work: stale facts or news that has to be scraped;
+        // without one, cache hits fall back to facts and whatever news is ready
+        AdmissionControlService.Permit permit = cacheHit && readyNews != null 
+            ? null : admissionControlService.tryAcquireUpstream();
+        if (permit == null && !cacheHit) {
+            return ResponseEntity.status(503)
+                .header("Retry-After", "5")
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(out -> writeLine(out, "error", 
+                    Map.of("message", "Service is busy right now. Please try again in a moment.")));
+        }
+        
+        // start every feed right away, they finish in whatever order they finish
+        List<CompletableFuture<List<NewsArticle>>> feedFutures = new ArrayList<>();
+        if (permit != null && readyNews == null) {
+            for (String feedUrl : newsScrapingService.getFeedUrls(cleanCountryName)) {
+                feedFutures.add(newsScrapingService.fetchFeedAsync(feedUrl, cleanCountryName));
+            }
+        }
+        
+        CountryInfo countryInfo;
+        try {
+            countryInfo = cachedInfo;
+            if (!cacheHit) {
+                countryInfo = countryDataService.fetchCountryData(cleanCountryName);
+                countryCacheService.cacheCountryInfo(countryInfo);
+            }
+        } catch (CountryNotFoundException e) {
+            if (permit != null) permit.release(true);
+            feedFutures.forEach(f -> f.cancel(true));
+            return ResponseEntity.status(404).contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(out -> writeLine(out, "error", Map.of("message", e.getMessage())));
+        } catch (Exception e) {
+            System.err.println("Error streaming country data for " + cleanCountryName + ": " + e.getMessage());
+            if (permit != null) permit.release(false);
+            feedFutures.forEach(f -> f.cancel(true));
+            return ResponseEntity.internalServerError().contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(out -> writeLine(out, "error", 
+                    Map.of("message", "Service temporarily unavailable. Please try again.")));
+        }
+        
+        // the permit only covered the facts when no feed has to be scraped
+        if (permit != null && feedFutures.isEmpty()) {
+            permit.release(true);
+        }
+        
+        cacheWarmingService.recordRequest(countryInfo.getCountryName());
+        
+        CountryInfo facts = countryInfo;
+        StreamingResponseBody body = out -> {
+            writeLine(out, "country", facts);
+            
+            if (readyNews != null) {
+                writeLine(out, "news", readyNews);
+                if (cachedNews == null) {
+                    countryCacheService.cacheNews(cleanCountryName, readyNews);
+                }
+                writeLine(out, "done", Map.of());
+                return;
+            }
+            
+            Object lock = new Object();
+            // everything sent so far, indexed articles first, deduplicated like fetchNewsForCountry
+            List<NewsArticle> streamed = new ArrayList<>();
+            Set<String> seen = new HashSet<>();
+            // set once the closing lines are written, feeds finishing after that write nothing
+            boolean[] closed = {false};
+            
+            synchronized (lock) {
+                for (NewsArticle article : indexedNews) {
+                    if (seen.add(newsKeyOf(article))) streamed.add(article);
+                }
+                if (!streamed.isEmpty()) {
+                    writeLine(out, "news", streamed);
+                }
+            }
+            
+            CompletableFuture<?>[] writes = feedFutures.stream()
+                .map(future -> future.thenAccept(articles -> {
+                    synchronized (lock) {
+                        if (closed[0]) return;
+                        
+                        List<NewsArticle> batch = new ArrayList<>();
+                        for (NewsArticle article : articles) {
+                            if (streamed.size() + batch.size() >= NewsScrapingService.MAX_ARTICLES) break;
+                            if (seen.add(newsKeyOf(article))) batch.add(article);
+                        }
+                        if (batch.isEmpty()) return;
+                        
+                        try {
+                            writeLine(out, "news", batch);
+                            streamed.addAll(batch);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                }))
+                .toArray(CompletableFuture[]::new);
+            
+            boolean success = false;
+            try {
+                CompletableFuture.allOf(writes).get(upstreamTimeoutMs, TimeUnit.MILLISECONDS);
+                success = true;
+            } catch (Exception e) {
+                System.err.println("Error streaming news for " + cleanCountryName + ": " + e.getMessage());
+            } finally {
+                if (permit != null) {
+                    permit.release(success);
+                }
+            }
+            
+            List<NewsArticle> news;
+            synchronized (lock) {
+                closed[0] = true;
+                feedFutures.forEach(f -> f.cancel(true));
+                
+                if (streamed.isEmpty() && permit != null) {
+                    List<NewsArticle> fallback = newsScrapingService.getFallbackNews(cleanCountryName);
+                    writeLine(out, "news", fallback);
+                    streamed.addAll(fallback);
+                }
+                writeLine(out, "done", Map.of());
+                news = List.copyOf(streamed);
+            }
+            
+            // the next stream or poll is answered from cache, and delta pollers see what was sent
+            if (permit != null) {
+                countryCacheService.cacheNews(cleanCountryName, news);
+            }
+        };
+        
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON_VALUE)).body(body);
+    }
+    
+    @GetMapping(value = "/{countryName}/news/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamCountryNews(@PathVariable String countryName, 
+                                                        HttpServletRequest request) {
+        if (validateCountryName(countryName) != null) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        if (!admissionControlService.tryConsume(getClientKey(request))) {
+            return ResponseEntity.status(429)
+                .header("Retry-After", String.valueOf(admissionControlService.getRetryAfterSeconds()))
+                .build();
+        }
+        
+        SseEmitter emitter = newsStreamService.subscribe(countryName.trim());
+        if (emitter == null) {
+            // too many subscribers, tell the client to back off
+            return ResponseEntity.status(503).header("Retry-After", "30").build();
+        }
+        
+        return ResponseEntity.ok(emitter);
+    }
+    
+    // incremental polling: only the articles added after `since`, 304 when there are none
+    @GetMapping("/{countryName}/news")
+    public ResponseEntity<Object> getCountryNewsDelta(@PathVariable String countryName,
+                                                      @RequestParam(required = false) Long since,
+                                                      HttpServletRequest request) {
+        String validationError = validateCountryName(countryName);
+        if (validationError != null) {
+            return ResponseEntity.badRequest().body(Map.of("error", validationError));
+        }
+    
+        String cleanCountryName = countryName.trim();
+    
+        if (!admissionControlService.tryConsume(getClientKey(request))) {
+            return ResponseEntity.status(429)
+                .header("Retry-After", String.valueOf(admissionControlService.getRetryAfterSeconds()))
+                .body(Map.of("error", "Too many requests. Please slow down and try again shortly."));
+        }
+    
+        // steady-state polls are answered from the news cache, expired news is refetched once
+        if (countryCacheService.getCachedNews(cleanCountryName) == null) {
+            AdmissionControlService.Permit permit = admissionControlService.tryAcquireUpstream();
+            if (permit != null) {
+                boolean success = false;
+                try {
+                    List<NewsArticle> news = CompletableFuture
+                        .supplyAsync(() -> newsScrapingService.fetchNewsForCountry(cleanCountryName))
+                        .get(upstreamTimeoutMs, TimeUnit.MILLISECONDS);
+                    countryCacheService.cacheNews(cleanCountryName, news);
+                    success = true;
+                } catch (Exception e) {
+                    // the log still answers with whatever it already holds
+                    System.err.println("Error fetching news delta for " + cleanCountryName + ": " + e.getMessage());
+                } finally {
+                    permit.release(success);
+                }
+            }
+        }
+    
+        CountryNewsLog.Delta delta = countryNewsLog.since(cleanCountryName, since, NewsScrapingService.MAX_ARTICLES);
+        String etag = "\"news-" + delta.getVersion() + "\"";
+    
+        boolean unchanged = since != null && !delta.isReset() && delta.getArticles().isEmpty();
+        if (unchanged || etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            return ResponseEntity.status(304).eTag(etag).build();
+        }
+    
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("countryName", cleanCountryName);
+        body.put("version", delta.getVersion());
+        body.put("reset", delta.isReset());
+        body.put("articles", delta.getArticles());
+        return ResponseEntity.ok().eTag(etag).body(body);
+    }
+    
+    // json schema of the full country payload, the same for json, cbor and smile
+    @GetMapping(value = "/schema", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getSchema() throws IOException {
+        byte[] schema = new ClassPathResource("schema/country-info.schema.json").getContentAsByteArray();
+        return ResponseEntity.ok()
+            .header("X-Schema-Version", RepresentationCache.SCHEMA_VERSION)
+            .body(schema);
+    }
+    
     @GetMapping("/search")
     public ResponseEntity<List<String>> searchCountries(@RequestParam String query) {
         // simple country name suggestions
@@ -99,6 +456,98 @@ public class CountryController {
         return ResponseEntity.ok(suggestions);
     }
     
+    // the full CountryInfo unless the client asked for a projection or a page of news
+    private ResponseEntity<Object> respond(CountryInfo countryInfo, CountryProjection projection, boolean shaped,
+                                           Integer newsLimit, String afterNewsKey,
+                                           HttpServletRequest request) throws IOException {
+        if (!shaped) {
+            // full objects are encoded once per version and format, json or binary per Accept
+            RepresentationCache.Format format = RepresentationCache.Format.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+            byte[] body = representationCache.encode(countryInfo.getCountryName().toLowerCase(),
+                representationVersion(countryInfo), countryInfo, format);
+            
+            return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .header("X-Schema-Version", RepresentationCache.SCHEMA_VERSION)
+                .body(body);
+        }
+        
+        Map<String, Object> body = projection.apply(countryInfo);
+        if (!projection.includesNews()) {
+            return ResponseEntity.ok(body);
+        }
+        
+        List<NewsArticle> news = countryInfo.getNews() != null ? countryInfo.getNews() : List.of();
+        
+        // the cursor names the last article of the previous page
+        int start = 0;
+        if (afterNewsKey != null) {
+            start = -1;
+            for (int i = 0; i < news.size() && start < 0; i++) {
+                if (afterNewsKey.equals(newsKeyOf(news.get(i)))) {
+                    start = i + 1;
+                }
+            }
+            if (start < 0) {
+                // news was refreshed since the previous page
+                return ResponseEntity.status(410).body(
+                    Map.of("error", "News cursor has expired. Request the first page again."));
+            }
+        }
+        
+        int limit = newsLimit != null ? newsLimit : NewsScrapingService.MAX_ARTICLES;
+        int end = Math.min(news.size(), start + limit);
+        
+        body.put(CountryProjection.NEWS, news.subList(start, end));
+        body.put("newsNextCursor", end < news.size() 
+            ? Base64.getUrlEncoder().withoutPadding().encodeToString(
+                newsKeyOf(news.get(end - 1)).getBytes(StandardCharsets.UTF_8))
+            : null);
+        return ResponseEntity.ok(body);
+    }
+    
+    // changes whenever the facts, derived fields or news behind a response change
+    private String representationVersion(CountryInfo countryInfo) {
+        List<NewsArticle> news = countryInfo.getNews() != null ? countryInfo.getNews() : List.of();
+        return countryInfo.getCachedAt() + "|" + countryInfo.getRiskExpiresAt() + "|" 
+            + news.stream().map(this::newsKeyOf).toList().hashCode();
+    }
+    
+    private String newsKeyOf(NewsArticle article) {
+        return article.getUrl() != null ? article.getUrl() : String.valueOf(article.getTitle());
+    }
+    
+    // returns an error message, or null when the name looks usable
+    private String validateCountryName(String countryName) {
+        if (countryName == null || countryName.trim().isEmpty()) {
+            return "Country name cannot be empty";
+        }
+        
+        // clean & validate country name
+        String cleanCountryName = countryName.trim();
+        if (cleanCountryName.length() < 2) {
+            return "Country name must be at least 2 characters long";
+        }
+        
+        // check for obviously invalid input (numbers, special characters)
+        if (cleanCountryName.matches(".*[0-9].*") || 
+            cleanCountryName.matches(".*[!@#$%^&*()_+={}\\[\\]:;\"'<>,.?/|\\\\].*")) {
+            return "Invalid country name format";
+        }
+        
+        return null;
+    }
+    
+    private void writeLine(OutputStream out, String type, Object data) throws IOException {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("type", type);
+        line.put("data", data);
+        out.write(objectMapper.writeValueAsBytes(line));
+        out.write('\n');
+        out.flush();
+    }
+    
     private CountryInfo fetchCompleteCountryData(String countryName) {
         try {
             // fetch data concurrently
@@ -108,21 +557,37 @@ public class CountryController {
             CompletableFuture<List<NewsArticle>> newsFuture = 
                 CompletableFuture.supplyAsync(() -> newsScrapingService.fetchNewsForCountry(countryName));
             
-            // wait for all to complete
-            CountryInfo countryInfo = countryFuture.get();
-            List<NewsArticle> news = newsFuture.get();
+            // wait for all to complete, but never longer than the upstream budget
+            CountryInfo countryInfo = countryFuture.get(upstreamTimeoutMs, TimeUnit.MILLISECONDS);
+            List<NewsArticle> news = newsFuture.get(upstreamTimeoutMs, TimeUnit.MILLISECONDS);
             
             countryInfo.setNews(news);
             
             return countryInfo;
             
-        } catch (InterruptedException | ExecutionException e) {
+        } catch (ExecutionException e) {
+            // surface a not-found from the country lookup as-is
+            if (e.getCause() instanceof CountryNotFoundException) {
+                throw (CountryNotFoundException) e.getCause();
+            }
             System.err.println("Error fetching concurrent data: " + e.getMessage());
             // fallback to sequential fetching
             return fetchSequentialCountryData(countryName);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Timed out fetching data for '" + countryName + "'", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted fetching data for '" + countryName + "'", e);
         }
     }
     
+    // facts only, news is either still cached or not wanted
+    private CountryInfo fetchCountryFacts(String countryName, List<NewsArticle> cachedNews) {
+        CountryInfo countryInfo = countryDataService.fetchCountryData(countryName);
+        countryInfo.setNews(cachedNews);
+        return countryInfo;
+    }
+    
     private CountryInfo fetchSequentialCountryData(String countryName) {
         CountryInfo countryInfo = countryDataService.fetchCountryData(countryName);
         
@@ -132,57 +597,36 @@ public class CountryController {
         return countryInfo;
     }
     
-    private void addLiveNewsData(CountryInfo countryInfo) {
+    private boolean addLiveNewsData(CountryInfo countryInfo) {
         try {
             // always fetch fresh news data
             CompletableFuture<List<NewsArticle>> newsFuture = 
                 CompletableFuture.supplyAsync(() -> 
                     newsScrapingService.fetchNewsForCountry(countryInfo.getCountryName()));
             
-            countryInfo.setNews(newsFuture.get());
+            countryInfo.setNews(newsFuture.get(upstreamTimeoutMs, TimeUnit.MILLISECONDS));
+            countryCacheService.cacheNews(countryInfo.getCountryName(), countryInfo.getNews());
+            return true;
             
         } catch (Exception e) {
             System.err.println("Error fetching live news data: " + e.getMessage());
             // continue with cached data only
+            return false;
         }
     }
     
-    private CountryInfo getCachedCountryInfo(String countryName) {
-        try {
-            TypedQuery<CountryInfo> query = entityManager.createQuery(
-                "SELECT c FROM CountryInfo c WHERE LOWER(c.countryName) = LOWER(:name)", 
-                CountryInfo.class);
-            query.setParameter("name", countryName);
-            
-            List<CountryInfo> results = query.getResultList();
-            return results.isEmpty() ? null : results.get(0);
-            
-        } catch (Exception e) {
-            System.err.println("Error querying cache: " + e.getMessage());
-            return null;
-        }
+    // risk and gdp are derived locally, so when only they are stale there's no upstream call
+    private void refreshDerivedFields(CountryInfo cachedInfo) {
+        if (cachedInfo.isRiskValid()) return;
+        
+        countryDataService.refreshDerivedFields(cachedInfo);
+        countryCacheService.cacheDerivedFields(cachedInfo);
     }
     
-    private void cacheCountryInfo(CountryInfo countryInfo) {
-        try {
-            // remove news before caching
-            CountryInfo cacheInfo = new CountryInfo(countryInfo.getCountryName());
-            cacheInfo.setCapital(countryInfo.getCapital());
-            cacheInfo.setPopulation(countryInfo.getPopulation());
-            cacheInfo.setRegion(countryInfo.getRegion());
-            cacheInfo.setSubregion(countryInfo.getSubregion());
-            cacheInfo.setArea(countryInfo.getArea());
-            cacheInfo.setCurrency(countryInfo.getCurrency());
-            cacheInfo.setLanguage(countryInfo.getLanguage());
-            cacheInfo.setGdpPerCapita(countryInfo.getGdpPerCapita());
-            cacheInfo.setGeopoliticalRiskIndex(countryInfo.getGeopoliticalRiskIndex());
-            cacheInfo.setFlagEmoji(countryInfo.getFlagEmoji());
-            
-            entityManager.persist(cacheInfo);
-            
-        } catch (Exception e) {
-            System.err.println("Error caching country info: " + e.getMessage());
-        }
+    // the connecting address; behind a trusted proxy tomcat's remote ip valve has already
+    // replaced it with the client from X-Forwarded-For (server.forward-headers-strategy)
+    private String getClientKey(HttpServletRequest request) {
+        return request.getRemoteAddr();
     }
     
     private CountryInfo createErrorCountryInfo(String countryName, String errorMessage) {
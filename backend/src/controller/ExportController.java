@@ -0,0 +1,113 @@
+package com.geopulse.controller;
+
+import com.geopulse.service.CountryExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/export")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ExportController {
+
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
+    // request attributes tomcat's connector reads to send a file straight from the page cache
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private CountryExportService exportService;
+
+    // every country in one pull, one json object per line, gzipped when the client accepts it
+    @GetMapping("/countries")
+    public ResponseEntity<Object> exportCountries(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        CountryExportService.Snapshot snapshot = exportService.getSnapshot();
+        if (snapshot == null) {
+            return ResponseEntity.status(503)
+                .header("Retry-After", "30")
+                .body(Map.of("error", "Country data is still loading. Please try again shortly."));
+        }
+
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        Path file = gzip ? snapshot.getGzip() : snapshot.getNdjson();
+        String etag = "\"countries-" + snapshot.getVersion() + (gzip ? "-gzip" : "") + "\"";
+
+        if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(304)
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+        }
+
+        long length = Files.size(file);
+        response.setContentType(NDJSON_VALUE);
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader("X-Snapshot-Version", String.valueOf(snapshot.getVersion()));
+        response.setHeader("X-Record-Count", String.valueOf(snapshot.getCount()));
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // tomcat sends the file itself once we return, no bytes pass through the heap
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+        } else {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+                long position = 0;
+                while (position < length) {
+                    position += channel.transferTo(position, length - position, out);
+                }
+            }
+        }
+
+        // the response is already written (or handed to the connector)
+        return null;
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) continue;
+
+            // gzip;q=0 explicitly refuses it
+            for (int i = 1; i < parts.length; i++) {
+                if (parts[i].trim().matches("q=0(\\.0{0,3})?")) return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,106 @@
+package com.geopulse.controller;
+
+import com.geopulse.model.CountryInfo;
+import com.geopulse.service.GeoIndexService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/geo")
+@CrossOrigin(origins = "http://localhost:3000")
+public class GeoController {
+
+    private static final int MAX_RESULTS = 50;
+    private static final int MAX_HOPS = 4;
+
+    @Autowired
+    private GeoIndexService geoIndex;
+
+    // nearest countries to a point or to another country: /geo/nearest?lat=48.8&lng=2.3&n=5 or ?country=France
+    @GetMapping("/nearest")
+    public ResponseEntity<Object> nearest(@RequestParam(required = false) Double lat,
+                                          @RequestParam(required = false) Double lng,
+                                          @RequestParam(required = false) String country,
+                                          @RequestParam(defaultValue = "5") int n) {
+        if (geoIndex.isEmpty()) {
+            return catalogNotReady();
+        }
+        if (n < 1 || n > MAX_RESULTS) {
+            return ResponseEntity.badRequest().body(Map.of("error", "n must be between 1 and " + MAX_RESULTS));
+        }
+
+        String exclude = null;
+        if (country != null) {
+            CountryInfo origin = geoIndex.findCountry(country);
+            if (origin == null) {
+                return ResponseEntity.status(404).body(Map.of("error", "No location known for '" + country + "'"));
+            }
+            lat = origin.getLatitude();
+            lng = origin.getLongitude();
+            exclude = origin.getCountryName();
+        }
+
+        if (lat == null || lng == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Provide either lat and lng, or country"));
+        }
+        if (Math.abs(lat) > 90 || Math.abs(lng) > 180) {
+            return ResponseEntity.badRequest().body(Map.of("error", "lat must be within ±90 and lng within ±180"));
+        }
+
+        return ResponseEntity.ok(geoIndex.nearest(lat, lng, n, exclude));
+    }
+
+    // everything inside a map viewport; minLng > maxLng means the box crosses the antimeridian
+    @GetMapping("/bbox")
+    public ResponseEntity<Object> boundingBox(@RequestParam double minLat,
+                                              @RequestParam double maxLat,
+                                              @RequestParam double minLng,
+                                              @RequestParam double maxLng) {
+        if (geoIndex.isEmpty()) {
+            return catalogNotReady();
+        }
+        if (minLat > maxLat || Math.abs(minLat) > 90 || Math.abs(maxLat) > 90
+                || Math.abs(minLng) > 180 || Math.abs(maxLng) > 180) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid bounding box"));
+        }
+
+        return ResponseEntity.ok(geoIndex.withinBox(minLat, maxLat, minLng, maxLng));
+    }
+
+    // bordering countries up to k hops away, with their combined risk
+    @GetMapping("/neighbours/{countryName}")
+    public ResponseEntity<Object> neighbours(@PathVariable String countryName,
+                                             @RequestParam(defaultValue = "1") int hops) {
+        if (geoIndex.isEmpty()) {
+            return catalogNotReady();
+        }
+        if (hops < 1 || hops > MAX_HOPS) {
+            return ResponseEntity.badRequest().body(Map.of("error", "hops must be between 1 and " + MAX_HOPS));
+        }
+
+        CountryInfo origin = geoIndex.findCountry(countryName);
+        if (origin == null) {
+            return ResponseEntity.status(404).body(Map.of("error", "No location known for '" + countryName + "'"));
+        }
+
+        List<GeoIndexService.GeoMatch> neighbours = geoIndex.neighbours(origin, hops);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("country", origin.getCountryName());
+        response.put("hops", hops);
+        response.put("risk", geoIndex.aggregateRisk(neighbours));
+        response.put("neighbours", neighbours);
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<Object> catalogNotReady() {
+        return ResponseEntity.status(503)
+            .header("Retry-After", "30")
+            .body(Map.of("error", "Country data is still loading. Please try again shortly."));
+    }
+}
@@ -1,5 +1,8 @@
 package com.geopulse.controller;
 
+import com.geopulse.service.AdmissionControlService;
+import com.geopulse.service.NewsArticlePool;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,6 +18,12 @@ import java.util.Map;
 @CrossOrigin(origins = "http://localhost:3000")
 public class HealthController {
     
+    @Autowired
+    private AdmissionControlService admissionControlService;
+    
+    @Autowired
+    private NewsArticlePool newsArticlePool;
+    
     @GetMapping
     public ResponseEntity<Map<String, Object>> healthCheck() {
         Map<String, Object> health = new HashMap<>();
@@ -39,6 +48,13 @@ public class HealthController {
             status.put("weather_api", "AVAILABLE");
             status.put("news_scraping", "OPERATIONAL");
             
+            // current adaptive limit vs upstream calls in flight
+            status.put("upstream_limit", String.valueOf((int) admissionControlService.getConcurrencyLimit()));
+            status.put("upstream_in_flight", String.valueOf(admissionControlService.getInFlight()));
+            
+            // retained article footprint
+            status.put("news_pool_articles", String.valueOf(newsArticlePool.size()));
+            
             status.put("overall", "HEALTHY");
             
         } catch (Exception e) {
@@ -0,0 +1,87 @@
+package com.geopulse.controller;
+
+import com.geopulse.model.TimeSeriesPoint;
+import com.geopulse.service.TimeSeriesStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/history")
+@CrossOrigin(origins = "http://localhost:3000")
+public class HistoryController {
+    
+    // raw points are only allowed over short ranges, use rollups for anything longer
+    private static final Duration MAX_RAW_RANGE = Duration.ofDays(7);
+    
+    @Autowired
+    private TimeSeriesStore timeSeriesStore;
+    
+    @GetMapping("/{countryName}")
+    public ResponseEntity<Map<String, Object>> getCountryHistory(@PathVariable String countryName,
+                                                                 @RequestParam(defaultValue = TimeSeriesStore.RISK) String metric,
+                                                                 @RequestParam(required = false) String from,
+                                                                 @RequestParam(required = false) String to,
+                                                                 @RequestParam(defaultValue = "hour") String resolution) {
+        return buildResponse("country", countryName, metric, from, to, resolution);
+    }
+    
+    @GetMapping("/region/{region}")
+    public ResponseEntity<Map<String, Object>> getRegionHistory(@PathVariable String region,
+                                                                @RequestParam(defaultValue = TimeSeriesStore.RISK) String metric,
+                                                                @RequestParam(required = false) String from,
+                                                                @RequestParam(required = false) String to,
+                                                                @RequestParam(defaultValue = "day") String resolution) {
+        return buildResponse("region", region, metric, from, to, resolution);
+    }
+    
+    private ResponseEntity<Map<String, Object>> buildResponse(String scope, String name, String metric,
+                                                              String from, String to, String resolution) {
+        if (!metric.equals(TimeSeriesStore.RISK) && !metric.equals(TimeSeriesStore.NEWS_VOLUME)) {
+            return ResponseEntity.badRequest().body(Map.of("error", 
+                "metric must be " + TimeSeriesStore.RISK + " or " + TimeSeriesStore.NEWS_VOLUME));
+        }
+        
+        TimeSeriesStore.Resolution res;
+        Instant toInstant;
+        Instant fromInstant;
+        try {
+            res = TimeSeriesStore.Resolution.valueOf(resolution.toUpperCase());
+            toInstant = to != null ? Instant.parse(to) : Instant.now();
+            fromInstant = from != null ? Instant.parse(from) : toInstant.minus(Duration.ofDays(7));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", 
+                "resolution must be raw, hour or day; from/to must be ISO-8601 instants"));
+        }
+        
+        if (fromInstant.isAfter(toInstant)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "from must be before to"));
+        }
+        if (res == TimeSeriesStore.Resolution.RAW 
+                && Duration.between(fromInstant, toInstant).compareTo(MAX_RAW_RANGE) > 0) {
+            return ResponseEntity.badRequest().body(Map.of("error", 
+                "raw resolution is limited to 7 days, use hour or day for longer ranges"));
+        }
+        
+        List<TimeSeriesPoint> points = scope.equals("region")
+            ? timeSeriesStore.queryRegion(name, metric, fromInstant, toInstant, res)
+            : timeSeriesStore.query(name, metric, fromInstant, toInstant, res);
+        
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put(scope, name);
+        response.put("metric", metric);
+        response.put("resolution", res.name().toLowerCase());
+        response.put("from", fromInstant);
+        response.put("to", toInstant);
+        response.put("points", points);
+        
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,58 @@
+package com.geopulse.controller;
+
+import com.geopulse.service.NewsSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/news")
+@CrossOrigin(origins = "http://localhost:3000")
+public class NewsController {
+    
+    private static final int MAX_PAGE_SIZE = 50;
+    
+    // deepest result reachable by paging, keeps offsets small and the ranking heap bounded
+    private static final int MAX_RESULT_WINDOW = 10_000;
+    
+    @Autowired
+    private NewsSearchIndex newsSearchIndex;
+    
+    // full text search over every article we've ingested, no upstream calls
+    @GetMapping("/search")
+    public ResponseEntity<Map<String, Object>> searchNews(@RequestParam("q") String query,
+                                                          @RequestParam(defaultValue = "0") int page,
+                                                          @RequestParam(defaultValue = "10") int size) {
+        if (query == null || query.trim().length() < 2) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Query must be at least 2 characters long"));
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body(
+                Map.of("error", "page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE));
+        }
+        
+        // long math so a huge page can't overflow into a negative offset
+        long offset = (long) page * size;
+        if (offset + size > MAX_RESULT_WINDOW) {
+            return ResponseEntity.badRequest().body(
+                Map.of("error", "page * size must not exceed " + MAX_RESULT_WINDOW + ", refine the query instead"));
+        }
+        
+        // ask for one extra hit to know whether there's a next page
+        List<NewsSearchIndex.SearchHit> hits = newsSearchIndex.search(query, (int) offset, size + 1);
+        boolean hasMore = hits.size() > size;
+        
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("query", query.trim());
+        response.put("page", page);
+        response.put("size", size);
+        response.put("hasMore", hasMore);
+        response.put("results", hasMore ? hits.subList(0, size) : hits);
+        
+        return ResponseEntity.ok(response);
+    }
+}
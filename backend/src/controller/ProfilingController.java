@@ -0,0 +1,111 @@
+package com.geopulse.controller;
+
+import com.geopulse.profiling.FlightRecorderService;
+import jdk.jfr.Recording;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+// on-demand flight recordings, only mapped when profiling.endpoint.enabled=true and only
+// answered for callers on this machine: recordings carry stacks, urls and heap details
+@RestController
+@RequestMapping("/profiling")
+@ConditionalOnProperty(name = "profiling.endpoint.enabled", havingValue = "true")
+public class ProfilingController {
+
+    @Autowired
+    private FlightRecorderService flightRecorderService;
+
+    // e.g. POST /profiling/recordings?settings=profile&durationSeconds=300
+    @PostMapping("/recordings")
+    public ResponseEntity<Object> startRecording(@RequestParam(defaultValue = "default") String settings,
+                                                 @RequestParam(defaultValue = "300") long durationSeconds,
+                                                 HttpServletRequest request) {
+        if (!isLocal(request)) return forbidden();
+        if (!settings.equals("default") && !settings.equals("profile")) {
+            return ResponseEntity.badRequest().body(Map.of("error", "settings must be default or profile"));
+        }
+
+        try {
+            Recording recording = flightRecorderService.start(settings, durationSeconds);
+            return ResponseEntity.status(201).body(flightRecorderService.describe(recording));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            System.err.println("Error starting flight recording: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(Map.of("error", "Could not start recording"));
+        }
+    }
+
+    @GetMapping("/recordings")
+    public ResponseEntity<Object> listRecordings(HttpServletRequest request) {
+        if (!isLocal(request)) return forbidden();
+        return ResponseEntity.ok(flightRecorderService.list());
+    }
+
+    // dumps everything recorded so far and downloads it, open with JDK Mission Control or `jfr print`
+    @GetMapping("/recordings/{id}/dump")
+    public ResponseEntity<Object> dumpRecording(@PathVariable long id, HttpServletRequest request) {
+        if (!isLocal(request)) return forbidden();
+
+        try {
+            Path file = flightRecorderService.dump(id);
+            if (file == null) {
+                return ResponseEntity.status(404).body(Map.of("error", "No recording with id " + id));
+            }
+
+            // the dump is a temp file, deleted as soon as the download closes it
+            long size = Files.size(file);
+            InputStream stream = Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(size)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"geopulse-" + id + ".jfr\"")
+                .body(new InputStreamResource(stream));
+
+        } catch (Exception e) {
+            System.err.println("Error dumping flight recording " + id + ": " + e.getMessage());
+            return ResponseEntity.internalServerError().body(Map.of("error", "Could not dump recording"));
+        }
+    }
+
+    @DeleteMapping("/recordings/{id}")
+    public ResponseEntity<Object> closeRecording(@PathVariable long id, HttpServletRequest request) {
+        if (!isLocal(request)) return forbidden();
+
+        if (!flightRecorderService.close(id)) {
+            return ResponseEntity.status(404).body(Map.of("error", "No recording with id " + id));
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    // the remote address is rewritten from X-Forwarded-For by trusted proxies, so it alone
+    // proves nothing; the socket must also have been accepted on a loopback interface
+    private boolean isLocal(HttpServletRequest request) {
+        try {
+            return InetAddress.getByName(request.getLocalAddr()).isLoopbackAddress()
+                && InetAddress.getByName(request.getRemoteAddr()).isLoopbackAddress();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private ResponseEntity<Object> forbidden() {
+        return ResponseEntity.status(403).body(Map.of("error", "Profiling is only available from localhost"));
+    }
+}
@@ -0,0 +1,103 @@
+package com.geopulse.controller;
+
+import com.geopulse.model.CountryInfo;
+import com.geopulse.service.CountryColumnarView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/regions")
+@CrossOrigin(origins = "http://localhost:3000")
+public class RegionController {
+    
+    private static final int MAX_LIMIT = 250;
+    
+    @Autowired
+    private CountryColumnarView columnarView;
+    
+    // e.g. total population by subregion: /regions/aggregate?groupBy=subregion&metric=population
+    @GetMapping("/aggregate")
+    public ResponseEntity<Object> aggregate(@RequestParam(defaultValue = "region") String groupBy,
+                                            @RequestParam(defaultValue = "population") String metric) {
+        if (columnarView.isEmpty()) {
+            return catalogNotReady();
+        }
+        
+        try {
+            CountryColumnarView.GroupBy group = CountryColumnarView.GroupBy.valueOf(groupBy.toUpperCase());
+            CountryColumnarView.Metric m = CountryColumnarView.Metric.fromParam(metric);
+            
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("groupBy", groupBy.toLowerCase());
+            response.put("metric", metric);
+            response.put("groups", columnarView.aggregate(group, m));
+            return ResponseEntity.ok(response);
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", 
+                "groupBy must be region or subregion; metric must be population, area, gdpPerCapita or risk"));
+        }
+    }
+    
+    // e.g. riskiest 10 countries in Africa: /regions/top?metric=risk&region=Africa&limit=10
+    @GetMapping("/top")
+    public ResponseEntity<Object> top(@RequestParam(defaultValue = "risk") String metric,
+                                      @RequestParam(required = false) String region,
+                                      @RequestParam(required = false) String subregion,
+                                      @RequestParam(defaultValue = "10") int limit,
+                                      @RequestParam(defaultValue = "desc") String order) {
+        if (columnarView.isEmpty()) {
+            return catalogNotReady();
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().body(Map.of("error", "limit must be between 1 and " + MAX_LIMIT));
+        }
+        
+        try {
+            CountryColumnarView.Metric m = CountryColumnarView.Metric.fromParam(metric);
+            List<CountryInfo> ranked = columnarView.rank(m, region, subregion, limit, !order.equalsIgnoreCase("asc"));
+            return ResponseEntity.ok(ranked);
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    // ad-hoc filters over every country, all bounds optional
+    @GetMapping("/countries")
+    public ResponseEntity<Object> filter(@RequestParam(required = false) String region,
+                                         @RequestParam(required = false) String subregion,
+                                         @RequestParam(required = false) Double minPopulation,
+                                         @RequestParam(required = false) Double maxPopulation,
+                                         @RequestParam(required = false) Double minRisk,
+                                         @RequestParam(required = false) Double maxRisk,
+                                         @RequestParam(required = false) Double minGdpPerCapita,
+                                         @RequestParam(required = false) Double maxGdpPerCapita) {
+        if (columnarView.isEmpty()) {
+            return catalogNotReady();
+        }
+        
+        CountryColumnarView.Filter filter = new CountryColumnarView.Filter();
+        filter.region = region;
+        filter.subregion = subregion;
+        filter.minPopulation = minPopulation;
+        filter.maxPopulation = maxPopulation;
+        filter.minRisk = minRisk;
+        filter.maxRisk = maxRisk;
+        filter.minGdpPerCapita = minGdpPerCapita;
+        filter.maxGdpPerCapita = maxGdpPerCapita;
+        
+        return ResponseEntity.ok(columnarView.filter(filter));
+    }
+    
+    private ResponseEntity<Object> catalogNotReady() {
+        return ResponseEntity.status(503)
+            .header("Retry-After", "30")
+            .body(Map.of("error", "Country data is still loading. Please try again shortly."));
+    }
+}
@@ -1,5 +1,6 @@
 package com.geopulse.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,12 +26,28 @@ public class CountryInfo {
     private Double gdpPerCapita;
     private String flagEmoji;
     
+    // ISO 3166-1 alpha-3, what restcountries uses in borders
+    private String countryCode;
+    private Double latitude;
+    private Double longitude;
+    
+    // alpha-3 codes of bordering countries, comma separated
+    private String borders;
+    
     @Column(name = "risk_index")
     private Double geopoliticalRiskIndex;
     
     @Column(name = "cached_at")
     private LocalDateTime cachedAt;
     
+    // each field group expires on its own, see CacheTtlPolicy.
+    // cache bookkeeping, not part of the payload: it changes with the clock, not the data
+    @Column(name = "facts_expires_at")
+    private LocalDateTime factsExpiresAt;
+    
+    @Column(name = "risk_expires_at")
+    private LocalDateTime riskExpiresAt;
+    
     @Transient
     private List<NewsArticle> news;
     
@@ -78,6 +95,23 @@ public class CountryInfo {
     public String getFlagEmoji() { return flagEmoji; }
     public void setFlagEmoji(String flagEmoji) { this.flagEmoji = flagEmoji; }
     
+    public String getCountryCode() { return countryCode; }
+    public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+    
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+    
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+    
+    public List<String> getBorders() {
+        if (borders == null || borders.isEmpty()) return List.of();
+        return List.of(borders.split(","));
+    }
+    public void setBorders(List<String> borders) {
+        this.borders = borders == null ? null : String.join(",", borders);
+    }
+    
     public Double getGeopoliticalRiskIndex() { return geopoliticalRiskIndex; }
     public void setGeopoliticalRiskIndex(Double geopoliticalRiskIndex) { 
         this.geopoliticalRiskIndex = geopoliticalRiskIndex; 
@@ -86,12 +120,55 @@ public class CountryInfo {
     public LocalDateTime getCachedAt() { return cachedAt; }
     public void setCachedAt(LocalDateTime cachedAt) { this.cachedAt = cachedAt; }
     
+    @JsonIgnore
+    public LocalDateTime getFactsExpiresAt() { return factsExpiresAt; }
+    public void setFactsExpiresAt(LocalDateTime factsExpiresAt) { this.factsExpiresAt = factsExpiresAt; }
+    
+    @JsonIgnore
+    public LocalDateTime getRiskExpiresAt() { return riskExpiresAt; }
+    public void setRiskExpiresAt(LocalDateTime riskExpiresAt) { this.riskExpiresAt = riskExpiresAt; }
+    
     public List<NewsArticle> getNews() { return news; }
     public void setNews(List<NewsArticle> news) { this.news = news; }
     
-    // helper method to check if cache is still valid (10 min)
+    // detached copy of everything but the id and news
+    public CountryInfo copy() {
+        CountryInfo copy = new CountryInfo(countryName);
+        copy.capital = capital;
+        copy.population = population;
+        copy.region = region;
+        copy.subregion = subregion;
+        copy.area = area;
+        copy.currency = currency;
+        copy.language = language;
+        copy.gdpPerCapita = gdpPerCapita;
+        copy.flagEmoji = flagEmoji;
+        copy.countryCode = countryCode;
+        copy.latitude = latitude;
+        copy.longitude = longitude;
+        copy.borders = borders;
+        copy.geopoliticalRiskIndex = geopoliticalRiskIndex;
+        copy.cachedAt = cachedAt;
+        copy.factsExpiresAt = factsExpiresAt;
+        copy.riskExpiresAt = riskExpiresAt;
+        return copy;
+    }
+    
+    // static facts still fresh, stale ones need an upstream refetch
+    @JsonIgnore
+    public boolean isFactsValid() {
+        return factsExpiresAt != null && factsExpiresAt.isAfter(LocalDateTime.now());
+    }
+    
+    // derived scores still fresh, stale ones are recomputed locally
+    @JsonIgnore
+    public boolean isRiskValid() {
+        return riskExpiresAt != null && riskExpiresAt.isAfter(LocalDateTime.now());
+    }
+    
+    // helper method to check if every cached field group is still valid
+    @JsonIgnore
     public boolean isCacheValid() {
-        return cachedAt != null && 
-               cachedAt.isAfter(LocalDateTime.now().minusMinutes(10));
+        return isFactsValid() && isRiskValid();
     }
 }
\ No newline at end of file
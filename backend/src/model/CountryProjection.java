@@ -0,0 +1,84 @@
+package com.geopulse.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * the subset of CountryInfo fields a client asked for with ?fields=.
+ * countryName is always included so responses stay identifiable.
+ */
+public class CountryProjection {
+
+    public static final String NEWS = "news";
+
+    // serializable fields in response order
+    private static final Map<String, Function<CountryInfo, Object>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("countryName", CountryInfo::getCountryName);
+        FIELDS.put("capital", CountryInfo::getCapital);
+        FIELDS.put("population", CountryInfo::getPopulation);
+        FIELDS.put("region", CountryInfo::getRegion);
+        FIELDS.put("subregion", CountryInfo::getSubregion);
+        FIELDS.put("area", CountryInfo::getArea);
+        FIELDS.put("currency", CountryInfo::getCurrency);
+        FIELDS.put("language", CountryInfo::getLanguage);
+        FIELDS.put("gdpPerCapita", CountryInfo::getGdpPerCapita);
+        FIELDS.put("flagEmoji", CountryInfo::getFlagEmoji);
+        FIELDS.put("countryCode", CountryInfo::getCountryCode);
+        FIELDS.put("latitude", CountryInfo::getLatitude);
+        FIELDS.put("longitude", CountryInfo::getLongitude);
+        FIELDS.put("borders", CountryInfo::getBorders);
+        FIELDS.put("geopoliticalRiskIndex", CountryInfo::getGeopoliticalRiskIndex);
+        FIELDS.put("cachedAt", CountryInfo::getCachedAt);
+        FIELDS.put(NEWS, CountryInfo::getNews);
+    }
+
+    private final List<String> fields;
+
+    private CountryProjection(List<String> fields) {
+        this.fields = fields;
+    }
+
+    // null or blank means every field; unknown names are rejected so typos don't silently drop data
+    public static CountryProjection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return new CountryProjection(new ArrayList<>(FIELDS.keySet()));
+        }
+
+        List<String> requested = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) continue;
+            if (!FIELDS.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown field '" + name + "'. Supported fields: "
+                    + String.join(", ", FIELDS.keySet()));
+            }
+            requested.add(name);
+        }
+
+        // keep the canonical order, and the name first
+        List<String> selected = new ArrayList<>();
+        for (String name : FIELDS.keySet()) {
+            if (name.equals("countryName") || requested.contains(name)) {
+                selected.add(name);
+            }
+        }
+        return new CountryProjection(selected);
+    }
+
+    public boolean includesNews() {
+        return fields.contains(NEWS);
+    }
+
+    public Map<String, Object> apply(CountryInfo info) {
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (String field : fields) {
+            projected.put(field, FIELDS.get(field).apply(info));
+        }
+        return projected;
+    }
+}
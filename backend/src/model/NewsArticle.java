@@ -1,6 +1,10 @@
 package com.geopulse.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 public class NewsArticle {
     
@@ -8,9 +12,13 @@ public class NewsArticle {
     private String description;
     private String url;
     private String source;
-    private LocalDateTime publishedAt;
     private String category;
     
+    // epoch millis instead of a LocalDateTime object, UNKNOWN_TIME when not set
+    private long publishedAtMillis = UNKNOWN_TIME;
+    
+    public static final long UNKNOWN_TIME = Long.MIN_VALUE;
+    
     // constructors
     public NewsArticle() {}
     
@@ -18,7 +26,7 @@ public class NewsArticle {
         this.title = title;
         this.url = url;
         this.source = source;
-        this.publishedAt = LocalDateTime.now();
+        this.publishedAtMillis = System.currentTimeMillis();
     }
     
     // getters & setters
@@ -34,18 +42,29 @@ public class NewsArticle {
     public String getSource() { return source; }
     public void setSource(String source) { this.source = source; }
     
-    public LocalDateTime getPublishedAt() { return publishedAt; }
-    public void setPublishedAt(LocalDateTime publishedAt) { this.publishedAt = publishedAt; }
+    public LocalDateTime getPublishedAt() {
+        if (publishedAtMillis == UNKNOWN_TIME) return null;
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(publishedAtMillis), ZoneId.systemDefault());
+    }
+    public void setPublishedAt(LocalDateTime publishedAt) {
+        this.publishedAtMillis = publishedAt == null ? UNKNOWN_TIME :
+            publishedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+    @JsonIgnore
+    public long getPublishedAtMillis() { return publishedAtMillis; }
+    public void setPublishedAtMillis(long publishedAtMillis) { this.publishedAtMillis = publishedAtMillis; }
     
     public String getCategory() { return category; }
     public void setCategory(String category) { this.category = category; }
     
-    // get display-friendly published time
+    // get display-friendly published time, left out of the payload since it changes every minute
+    @JsonIgnore
     public String getTimeAgo() {
-        if (publishedAt == null) return "Unknown";
+        if (publishedAtMillis == UNKNOWN_TIME) return "Unknown";
         
-        LocalDateTime now = LocalDateTime.now();
-        long minutes = java.time.Duration.between(publishedAt, now).toMinutes();
+        // plain arithmetic on millis, no date objects per serialization
+        long minutes = (System.currentTimeMillis() - publishedAtMillis) / 60_000;
         
         if (minutes < 60) {
             return minutes + " minutes ago";
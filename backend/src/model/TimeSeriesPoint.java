@@ -0,0 +1,45 @@
+package com.geopulse.model;
+
+import java.time.Instant;
+
+public class TimeSeriesPoint {
+
+    private Instant timestamp;
+    private double value;
+    private double min;
+    private double max;
+    private double sum;
+    private long count;
+
+    // constructors
+    public TimeSeriesPoint() {}
+
+    public TimeSeriesPoint(Instant timestamp, double value, double min, double max, double sum, long count) {
+        this.timestamp = timestamp;
+        this.value = value;
+        this.min = min;
+        this.max = max;
+        this.sum = sum;
+        this.count = count;
+    }
+
+    // getters & setters
+    public Instant getTimestamp() { return timestamp; }
+    public void setTimestamp(Instant timestamp) { this.timestamp = timestamp; }
+
+    // average for rollups (total for news volume, which is a count), the raw value otherwise
+    public double getValue() { return value; }
+    public void setValue(double value) { this.value = value; }
+
+    public double getMin() { return min; }
+    public void setMin(double min) { this.min = min; }
+
+    public double getMax() { return max; }
+    public void setMax(double max) { this.max = max; }
+
+    public double getSum() { return sum; }
+    public void setSum(double sum) { this.sum = sum; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+}
@@ -0,0 +1,23 @@
+package com.geopulse.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.geopulse.CacheLookup")
+@Label("Cache Lookup")
+@Category({"GeoPulse", "Cache"})
+@Description("Country lookup in the cache table")
+@StackTrace(false)
+public class CacheLookupEvent extends Event {
+
+    @Label("Country")
+    public String country;
+
+    @Label("Outcome")
+    @Description("hit, stale, miss or error")
+    public String outcome;
+}
@@ -0,0 +1,23 @@
+package com.geopulse.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.geopulse.CoalescingWait")
+@Label("Coalescing Wait")
+@Category({"GeoPulse", "Upstream"})
+@Description("Time spent waiting on another request's in-flight fetch of the same country")
+@StackTrace(false)
+public class CoalescingWaitEvent extends Event {
+
+    @Label("Country")
+    public String country;
+
+    @Label("Outcome")
+    @Description("shared or error")
+    public String outcome;
+}
@@ -0,0 +1,165 @@
+package com.geopulse.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * starts, lists and dumps flight recordings on demand.
+ * the app's custom events (cache, upstream, rss, coalescing, serialization) are
+ * always enabled in recordings started here, on top of the chosen jdk settings.
+ */
+@Service
+public class FlightRecorderService {
+
+    @Value("${profiling.dump-dir:data/recordings}")
+    private String dumpDir;
+
+    @Value("${profiling.max-recordings:2}")
+    private int maxRecordings;
+
+    @Value("${profiling.max-duration-seconds:3600}")
+    private long maxDurationSeconds;
+
+    @Value("${profiling.max-size-mb:256}")
+    private long maxSizeMb;
+
+    private static final List<Class<? extends jdk.jfr.Event>> EVENTS = List.of(
+        CacheLookupEvent.class,
+        UpstreamFetchEvent.class,
+        RssFetchEvent.class,
+        RssParseEvent.class,
+        CoalescingWaitEvent.class,
+        SerializationEvent.class
+    );
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+
+    // settings is a jdk configuration name: "default" (~1% overhead) or "profile" (~2%, more detail)
+    public synchronized Recording start(String settings, long durationSeconds) throws IOException, ParseException {
+        if (activeCount() >= maxRecordings) {
+            throw new IllegalStateException("At most " + maxRecordings + " recordings can run at once");
+        }
+        if (durationSeconds < 1 || durationSeconds > maxDurationSeconds) {
+            throw new IllegalArgumentException("duration must be between 1 and " + maxDurationSeconds + " seconds");
+        }
+
+        Recording recording = new Recording(Configuration.getConfiguration(settings));
+        for (Class<? extends jdk.jfr.Event> event : EVENTS) {
+            recording.enable(event);
+        }
+        recording.setName("geopulse-" + settings);
+        recording.setDuration(Duration.ofSeconds(durationSeconds));
+        recording.setMaxSize(maxSizeMb * 1024 * 1024);
+        recording.setToDisk(true);
+        recording.start();
+
+        recordings.put(recording.getId(), recording);
+        return recording;
+    }
+
+    public List<Map<String, Object>> list() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Recording recording : recordings.values()) {
+            result.add(describe(recording));
+        }
+        return result;
+    }
+
+    public Recording get(long id) {
+        return recordings.get(id);
+    }
+
+    // dumps left behind by a crash mid-download
+    @PostConstruct
+    public void deleteLeftoverDumps() {
+        Path dir = Paths.get(dumpDir);
+        if (!Files.isDirectory(dir)) return;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "geopulse-*.jfr")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            System.err.println("Error cleaning up recording dumps: " + e.getMessage());
+        }
+    }
+
+    // writes what has been recorded so far to a temp file, the recording keeps running.
+    // the caller streams the file and must delete it afterwards
+    public Path dump(long id) throws IOException {
+        Recording recording = recordings.get(id);
+        if (recording == null) return null;
+
+        Path dir = Paths.get(dumpDir);
+        Files.createDirectories(dir);
+        Path file = Files.createTempFile(dir, "geopulse-" + id + "-" + LocalDateTime.now().format(FILE_TIME) + "-", ".jfr");
+
+        try {
+            if (recording.getState() == RecordingState.RUNNING) {
+                // a copy keeps the running recording untouched
+                try (Recording snapshot = recording.copy(false)) {
+                    snapshot.dump(file);
+                }
+            } else {
+                recording.dump(file);
+            }
+            return file;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    public boolean close(long id) {
+        Recording recording = recordings.remove(id);
+        if (recording == null) return false;
+
+        recording.close();
+        return true;
+    }
+
+    public Map<String, Object> describe(Recording recording) {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("id", recording.getId());
+        info.put("name", recording.getName());
+        info.put("state", recording.getState().name().toLowerCase());
+        info.put("startTime", recording.getStartTime());
+        info.put("durationSeconds", recording.getDuration() == null ? null : recording.getDuration().toSeconds());
+        info.put("sizeBytes", recording.getSize());
+        return info;
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        recordings.values().forEach(Recording::close);
+        recordings.clear();
+    }
+
+    private long activeCount() {
+        return recordings.values().stream()
+            .filter(r -> r.getState() == RecordingState.RUNNING || r.getState() == RecordingState.DELAYED)
+            .count();
+    }
+}
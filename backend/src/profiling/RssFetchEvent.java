@@ -0,0 +1,31 @@
+package com.geopulse.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.geopulse.RssFetch")
+@Label("RSS Fetch")
+@Category({"GeoPulse", "News"})
+@Description("Download of one RSS feed")
+@StackTrace(false)
+public class RssFetchEvent extends Event {
+
+    @Label("Feed URL")
+    public String feedUrl;
+
+    @Label("Country")
+    public String country;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Outcome")
+    @Description("ok or error")
+    public String outcome;
+}
@@ -0,0 +1,29 @@
+package com.geopulse.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.geopulse.RssParse")
+@Label("RSS Parse")
+@Category({"GeoPulse", "News"})
+@Description("Parsing and ingesting the items of one RSS feed")
+@StackTrace(false)
+public class RssParseEvent extends Event {
+
+    @Label("Feed URL")
+    public String feedUrl;
+
+    @Label("Country")
+    public String country;
+
+    @Label("Articles")
+    public int articles;
+
+    @Label("Outcome")
+    @Description("ok or error")
+    public String outcome;
+}
@@ -0,0 +1,31 @@
+package com.geopulse.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.geopulse.Serialization")
+@Label("Serialization")
+@Category({"GeoPulse", "Response"})
+@Description("Encoding a response body, or serving it from the representation cache")
+@StackTrace(false)
+public class SerializationEvent extends Event {
+
+    @Label("Key")
+    public String key;
+
+    @Label("Format")
+    public String format;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Cached")
+    @Description("true when the bytes were already encoded")
+    public boolean cached;
+}
@@ -0,0 +1,32 @@
+package com.geopulse.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.geopulse.UpstreamFetch")
+@Label("Upstream Country Fetch")
+@Category({"GeoPulse", "Upstream"})
+@Description("Call to the restcountries API")
+@StackTrace(false)
+public class UpstreamFetchEvent extends Event {
+
+    @Label("Country")
+    @Description("requested name, or * for the full list")
+    public String country;
+
+    @Label("Status Code")
+    public int statusCode;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Outcome")
+    @Description("ok, not_found or error")
+    public String outcome;
+}
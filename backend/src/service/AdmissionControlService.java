@@ -0,0 +1,165 @@
+package com.geopulse.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class AdmissionControlService {
+
+    @Value("${admission.rate.per-second:5}")
+    private double tokensPerSecond;
+
+    @Value("${admission.rate.burst:20}")
+    private double burstCapacity;
+
+    @Value("${admission.rate.max-clients:10000}")
+    private int maxClients;
+
+    @Value("${admission.concurrency.initial:20}")
+    private int initialLimit;
+
+    @Value("${admission.concurrency.min:2}")
+    private int minLimit;
+
+    @Value("${admission.concurrency.max:200}")
+    private int maxLimit;
+
+    @Value("${admission.latency.target-ms:2000}")
+    private long latencyTargetMs;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // adaptive limit on concurrent upstream work, adjusted AIMD style
+    private double concurrencyLimit = -1;
+    // calls that started before this saw the old load, they don't cut the limit again
+    private long lastDecreaseNanos = System.nanoTime();
+
+    private static final double DECREASE_FACTOR = 0.9;
+    private static final long IDLE_BUCKET_MS = 10 * 60 * 1000;
+
+    // clients past the map bound share this bucket
+    private static final String OVERFLOW_KEY = "*";
+
+    static class TokenBucket {
+        double tokens;
+        long lastRefillNanos;
+        volatile long lastUsedMillis;
+
+        TokenBucket(double tokens) {
+            this.tokens = tokens;
+            this.lastRefillNanos = System.nanoTime();
+            this.lastUsedMillis = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * handle for one admitted upstream call, report back how it went so the limit can adapt
+     */
+    public class Permit {
+        private final long startNanos = System.nanoTime();
+        private boolean released;
+
+        public void release(boolean success) {
+            if (released) return;
+            released = true;
+
+            inFlight.decrementAndGet();
+            long latencyMs = (System.nanoTime() - startNanos) / 1_000_000;
+            onSample(startNanos, latencyMs, success);
+        }
+    }
+
+    // per-client token bucket, false means the client should get a 429
+    public boolean tryConsume(String clientKey) {
+        TokenBucket bucket = bucketFor(clientKey);
+
+        synchronized (bucket) {
+            long now = System.nanoTime();
+            double elapsedSeconds = (now - bucket.lastRefillNanos) / 1_000_000_000.0;
+            bucket.tokens = Math.min(burstCapacity, bucket.tokens + elapsedSeconds * tokensPerSecond);
+            bucket.lastRefillNanos = now;
+            bucket.lastUsedMillis = System.currentTimeMillis();
+
+            if (bucket.tokens < 1.0) {
+                return false;
+            }
+            bucket.tokens -= 1.0;
+            return true;
+        }
+    }
+
+    // the map is bounded: once it's full, new clients share one bucket until the scheduled
+    // sweep frees idle ones. no scanning here, a spray of addresses must not cost O(n) per request
+    private TokenBucket bucketFor(String clientKey) {
+        TokenBucket bucket = buckets.get(clientKey);
+        if (bucket != null) return bucket;
+
+        if (buckets.size() >= maxClients) {
+            return buckets.computeIfAbsent(OVERFLOW_KEY, k -> new TokenBucket(burstCapacity));
+        }
+        return buckets.computeIfAbsent(clientKey, k -> new TokenBucket(burstCapacity));
+    }
+
+    /**
+     * admits a request that needs upstream calls, or returns null when we're at the limit.
+     * cache hits never go through here so they keep being served while upstream work is shed.
+     */
+    public Permit tryAcquireUpstream() {
+        int limit = (int) getConcurrencyLimit();
+
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit();
+            }
+        }
+    }
+
+    // suggested Retry-After in seconds for a client that ran out of tokens
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (long) Math.ceil(1.0 / tokensPerSecond));
+    }
+
+    public synchronized double getConcurrencyLimit() {
+        if (concurrencyLimit < 0) {
+            concurrencyLimit = initialLimit;
+        }
+        return concurrencyLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long startNanos, long latencyMs, boolean success) {
+        double limit = getConcurrencyLimit();
+
+        if (!success || latencyMs > latencyTargetMs) {
+            // back off quickly when upstreams slow down or fail, but once per round of calls:
+            // a burst of slow calls that were all in flight together is one congestion signal
+            if (startNanos - lastDecreaseNanos < 0) return;
+            limit = limit * DECREASE_FACTOR;
+            lastDecreaseNanos = System.nanoTime();
+        } else {
+            // grow by roughly one slot per window of successful calls
+            limit = limit + 1.0 / limit;
+        }
+
+        concurrencyLimit = Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleBuckets() {
+        long cutoff = System.currentTimeMillis() - IDLE_BUCKET_MS;
+        buckets.values().removeIf(bucket -> bucket.lastUsedMillis < cutoff);
+    }
+}
@@ -0,0 +1,55 @@
+package com.geopulse.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ttl classes for the cached parts of a country.
+ * each expiry is drawn at random within ±jitter of its ttl so entries cached
+ * in the same burst don't all expire, and get refetched, in the same burst.
+ */
+@Service
+public class CacheTtlPolicy {
+
+    // field groups that are refreshed independently
+    public enum FieldGroup {
+        FACTS, // capital, population, currency... from restcountries
+        RISK,  // gdp and risk index, derived locally
+        NEWS   // scraped headlines
+    }
+
+    @Value("${cache.ttl.facts-ms:86400000}")
+    private long factsTtlMs;
+
+    @Value("${cache.ttl.risk-ms:3600000}")
+    private long riskTtlMs;
+
+    @Value("${cache.ttl.news-ms:300000}")
+    private long newsTtlMs;
+
+    @Value("${cache.ttl.jitter:0.2}")
+    private double jitter;
+
+    public LocalDateTime expiresAt(FieldGroup group) {
+        return LocalDateTime.now().plusNanos(jitteredTtlMs(group) * 1_000_000);
+    }
+
+    public long jitteredTtlMs(FieldGroup group) {
+        long ttl = getTtlMs(group);
+        if (jitter <= 0) return ttl;
+
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Math.round(ttl * factor);
+    }
+
+    public long getTtlMs(FieldGroup group) {
+        return switch (group) {
+            case FACTS -> factsTtlMs;
+            case RISK -> riskTtlMs;
+            case NEWS -> newsTtlMs;
+        };
+    }
+}
@@ -0,0 +1,298 @@
+package com.geopulse.service;
+
+import com.geopulse.model.CountryInfo;
+import com.geopulse.model.CountryNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * keeps popular countries in the cache.
+ * every served lookup is counted in a count-min sketch (persisted across restarts);
+ * the top-N are prefetched in parallel at startup, and their facts and news are each refreshed
+ * shortly before they expire.
+ */
+@Service
+public class CacheWarmingService {
+
+    @Value("${cache.warm.top-n:20}")
+    private int topN;
+
+    @Value("${cache.warm.parallelism:4}")
+    private int parallelism;
+
+    @Value("${cache.warm.refresh-ahead-ms:120000}")
+    private long refreshAheadMs;
+
+    @Value("${cache.warm.news-refresh-ahead-ms:60000}")
+    private long newsRefreshAheadMs;
+
+    @Value("${cache.warm.data-file:data/popularity.bin}")
+    private String dataFile;
+
+    @Value("${cache.warm.sketch-width:2048}")
+    private int sketchWidth;
+
+    @Value("${cache.warm.sketch-depth:4}")
+    private int sketchDepth;
+
+    @Autowired
+    private CountryDataService countryDataService;
+
+    @Autowired
+    private CountryCacheService countryCacheService;
+
+    @Autowired
+    private NewsScrapingService newsScrapingService;
+
+    @Autowired
+    private AdmissionControlService admissionControlService;
+
+    private CountMinSketch sketch;
+    private ExecutorService executor;
+
+    // the sketch can't list its keys, so the names that could be in the top-N are tracked here
+    private final Map<String, Long> candidates = new HashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Set<String> refreshingNews = ConcurrentHashMap.newKeySet();
+    private volatile boolean dirty;
+
+    @PostConstruct
+    public void init() {
+        sketch = new CountMinSketch(sketchWidth, sketchDepth);
+        executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        load();
+    }
+
+    // called with the canonical name of every country we served
+    public void recordRequest(String countryName) {
+        if (countryName == null || countryName.isBlank()) return;
+
+        String name = countryName.trim();
+        long estimate = sketch.add(name.toLowerCase());
+        dirty = true;
+
+        synchronized (candidates) {
+            if (candidates.containsKey(name) || candidates.size() < candidateCapacity()) {
+                candidates.put(name, estimate);
+                return;
+            }
+
+            // replace the coldest candidate once this one has overtaken it
+            Map.Entry<String, Long> coldest = candidates.entrySet().stream()
+                .min(Map.Entry.comparingByValue())
+                .orElseThrow();
+            if (estimate > coldest.getValue()) {
+                candidates.remove(coldest.getKey());
+                candidates.put(name, estimate);
+            }
+        }
+    }
+
+    public List<String> getHotCountries() {
+        synchronized (candidates) {
+            return candidates.keySet().stream()
+                .sorted(Comparator.comparingLong((String name) -> sketch.estimate(name.toLowerCase())).reversed())
+                .limit(topN)
+                .toList();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmOnStartup() {
+        List<String> hot = getHotCountries();
+        if (hot.isEmpty()) return;
+
+        System.out.println("Warming cache for " + hot.size() + " popular countries");
+        hot.forEach(this::refreshAsync);
+        hot.forEach(this::refreshNewsAsync);
+    }
+
+    // refresh-ahead: hot entries are refetched before they expire, missing ones are filled in.
+    // facts and news expire on their own schedules, so each is checked and refetched separately
+    @Scheduled(fixedDelayString = "${cache.warm.check-interval-ms:30000}",
+               initialDelayString = "${cache.warm.check-interval-ms:30000}")
+    public void refreshExpiring() {
+        LocalDateTime refreshBefore = LocalDateTime.now().plusNanos(refreshAheadMs * 1_000_000);
+        long refreshNewsBefore = System.currentTimeMillis() + newsRefreshAheadMs;
+
+        for (String name : getHotCountries()) {
+            CountryInfo cached = countryCacheService.getCachedCountryInfo(name);
+            if (cached == null || cached.getFactsExpiresAt() == null || cached.getFactsExpiresAt().isBefore(refreshBefore)) {
+                refreshAsync(name);
+            }
+            if (countryCacheService.getNewsExpiresAtMillis(name) < refreshNewsBefore) {
+                refreshNewsAsync(name);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.warm.persist-interval-ms:300000}",
+               initialDelayString = "${cache.warm.persist-interval-ms:300000}")
+    public void persistPeriodically() {
+        if (dirty) {
+            persist();
+        }
+    }
+
+    // halve every count so popularity follows what people look at now
+    @Scheduled(fixedDelayString = "${cache.warm.decay-interval-ms:86400000}",
+               initialDelayString = "${cache.warm.decay-interval-ms:86400000}")
+    public void decay() {
+        sketch.halve();
+        synchronized (candidates) {
+            candidates.replaceAll((name, estimate) -> estimate >>> 1);
+            candidates.values().removeIf(estimate -> estimate == 0);
+        }
+        dirty = true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        persist();
+    }
+
+    private void refreshAsync(String name) {
+        // one refresh per country at a time
+        if (!refreshing.add(name)) return;
+
+        executor.execute(() -> {
+            try {
+                refresh(name);
+            } finally {
+                refreshing.remove(name);
+            }
+        });
+    }
+
+    private void refreshNewsAsync(String name) {
+        if (!refreshingNews.add(name)) return;
+
+        executor.execute(() -> {
+            try {
+                refreshNews(name);
+            } finally {
+                refreshingNews.remove(name);
+            }
+        });
+    }
+
+    private void refresh(String name) {
+        // warming is background work, it never takes capacity the limiter doesn't have
+        AdmissionControlService.Permit permit = admissionControlService.tryAcquireUpstream();
+        if (permit == null) return;
+
+        boolean success = false;
+        try {
+            CountryInfo info = countryDataService.fetchCountryData(name);
+            countryCacheService.cacheCountryInfo(info);
+            success = true;
+        } catch (CountryNotFoundException e) {
+            success = true;
+            synchronized (candidates) {
+                candidates.remove(name);
+            }
+        } catch (Exception e) {
+            System.err.println("Error warming cache for " + name + ": " + e.getMessage());
+        } finally {
+            permit.release(success);
+        }
+    }
+
+    private void refreshNews(String name) {
+        AdmissionControlService.Permit permit = admissionControlService.tryAcquireUpstream();
+        if (permit == null) return;
+
+        boolean success = false;
+        try {
+            countryCacheService.cacheNews(name, newsScrapingService.fetchNewsForCountry(name));
+            success = true;
+        } catch (Exception e) {
+            System.err.println("Error warming news for " + name + ": " + e.getMessage());
+        } finally {
+            permit.release(success);
+        }
+    }
+
+    private int candidateCapacity() {
+        return topN * 4;
+    }
+
+    private void load() {
+        Path file = Paths.get(dataFile);
+        if (!Files.exists(file)) return;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (!sketch.readFrom(in)) {
+                System.err.println("Ignoring popularity data from a different sketch size or format");
+                return;
+            }
+
+            int count = in.readInt();
+            synchronized (candidates) {
+                for (int i = 0; i < count; i++) {
+                    String name = in.readUTF();
+                    candidates.put(name, sketch.estimate(name.toLowerCase()));
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error loading popularity data: " + e.getMessage());
+        }
+    }
+
+    private synchronized void persist() {
+        Path file = Paths.get(dataFile);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+
+            // write aside and rename so a crash never leaves a torn file
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                sketch.writeTo(out);
+                synchronized (candidates) {
+                    out.writeInt(candidates.size());
+                    for (String name : candidates.keySet()) {
+                        out.writeUTF(name);
+                    }
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+
+        } catch (IOException e) {
+            System.err.println("Error saving popularity data: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.geopulse.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geopulse.model.CountryInfo;
+import com.geopulse.model.CountryNotFoundException;
+import com.geopulse.model.NewsArticle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * optional cluster mode: countries and feeds are owned by one node each, picked on a
+ * consistent hash ring over the live members. other nodes forward misses to the owner,
+ * so each upstream fetch happens once across the cluster. members are health checked
+ * and the ring is rebuilt whenever one joins or leaves.
+ */
+@Service
+public class ClusterService {
+
+    @Value("${cluster.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cluster.self-url:http://localhost:8080/api}")
+    private String selfUrl;
+
+    // comma separated base urls of every node, self included
+    @Value("${cluster.members:}")
+    private String membersProperty;
+
+    @Value("${cluster.virtual-nodes:128}")
+    private int virtualNodes;
+
+    @Value("${cluster.forward-timeout-ms:5000}")
+    private long forwardTimeoutMs;
+
+    // shared by every node, peers prove membership by sending it in CLUSTER_TOKEN_HEADER
+    @Value("${cluster.secret:}")
+    private String secret;
+
+    public static final String CLUSTER_TOKEN_HEADER = "X-Cluster-Token";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(2))
+        .build();
+
+    private List<String> members = List.of();
+    private volatile ConsistentHashRing ring;
+
+    @PostConstruct
+    public void init() {
+        selfUrl = normalize(selfUrl);
+
+        Set<String> configured = new LinkedHashSet<>();
+        for (String member : membersProperty.split(",")) {
+            if (!member.isBlank()) {
+                configured.add(normalize(member));
+            }
+        }
+        configured.add(selfUrl);
+        members = List.copyOf(configured);
+
+        // start optimistic, the first health check drops whoever isn't up
+        ring = new ConsistentHashRing(members, virtualNodes);
+        if (enabled) {
+            System.out.println("Cluster mode on as " + selfUrl + " with members " + members);
+            if (secret.isBlank()) {
+                System.err.println("cluster.secret is not set, peer requests will be refused");
+            }
+        }
+    }
+
+    // true only in cluster mode and for a request carrying the shared secret
+    public boolean isPeer(String token) {
+        if (!enabled || secret.isBlank() || token == null) return false;
+
+        return MessageDigest.isEqual(secret.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getSelfUrl() {
+        return selfUrl;
+    }
+
+    public List<String> getMembers() {
+        return members;
+    }
+
+    public List<String> getLiveMembers() {
+        return ring.getNodes();
+    }
+
+    public String ownerOf(String key) {
+        if (!enabled) return selfUrl;
+
+        String owner = ring.ownerOf(key.toLowerCase());
+        return owner != null ? owner : selfUrl;
+    }
+
+    public boolean isLocal(String key) {
+        return !enabled || ownerOf(key).equals(selfUrl);
+    }
+
+    @Scheduled(fixedDelayString = "${cluster.health-interval-ms:5000}")
+    public void checkMembers() {
+        if (!enabled) return;
+
+        List<String> live = new ArrayList<>();
+        for (String member : members) {
+            if (member.equals(selfUrl) || isUp(member)) {
+                live.add(member);
+            }
+        }
+
+        // rebalance: only keys next to the joined or departed node change owner
+        if (!live.equals(ring.getNodes())) {
+            ring = new ConsistentHashRing(live, virtualNodes);
+            System.out.println("Cluster membership changed, live nodes: " + live);
+        }
+    }
+
+    // the owner serves from its cache or fetches (and caches) on our behalf
+    public CountryInfo fetchCountryFromOwner(String owner, String countryName) {
+        HttpResponse<byte[]> response = get(owner + "/cluster/countries/"
+            + URLEncoder.encode(countryName, StandardCharsets.UTF_8).replace("+", "%20"));
+
+        if (response.statusCode() == 404) {
+            throw new CountryNotFoundException("Country '" + countryName + "' not found. Please check the spelling and try again.");
+        }
+        if (response.statusCode() != 200) {
+            throw new RuntimeException("Owner " + owner + " answered HTTP " + response.statusCode());
+        }
+
+        try {
+            CountryInfo info = objectMapper.readValue(response.body(), CountryInfo.class);
+            // the owner's row id means nothing in our cache
+            info.setId(null);
+            return info;
+        } catch (Exception e) {
+            throw new RuntimeException("Unreadable country data from " + owner, e);
+        }
+    }
+
+    // the owner's latest scrape of a feed
+    public List<NewsArticle> fetchFeedFromOwner(String owner, String feedUrl) {
+        HttpResponse<byte[]> response = get(owner + "/cluster/feeds?url="
+            + URLEncoder.encode(feedUrl, StandardCharsets.UTF_8));
+
+        if (response.statusCode() != 200) {
+            throw new RuntimeException("Owner " + owner + " answered HTTP " + response.statusCode());
+        }
+
+        try {
+            return objectMapper.readValue(response.body(), new TypeReference<List<NewsArticle>>() {});
+        } catch (Exception e) {
+            throw new RuntimeException("Unreadable feed data from " + owner, e);
+        }
+    }
+
+    private boolean isUp(String member) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(member + "/cluster/ping"))
+                .header(CLUSTER_TOKEN_HEADER, secret)
+                .timeout(Duration.ofSeconds(1))
+                .build();
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private HttpResponse<byte[]> get(String url) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header(CLUSTER_TOKEN_HEADER, secret)
+                .timeout(Duration.ofMillis(forwardTimeoutMs))
+                .build();
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted calling " + url, e);
+        } catch (Exception e) {
+            throw new RuntimeException("Could not reach " + url + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String normalize(String url) {
+        String trimmed = url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
@@ -0,0 +1,54 @@
+package com.geopulse.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * immutable hash ring: every node is placed at many virtual points and a key belongs
+ * to the first point clockwise from its hash. adding or removing a node only moves
+ * the keys next to that node's points, roughly 1/n of them.
+ */
+public class ConsistentHashRing {
+
+    private final TreeMap<Long, String> points = new TreeMap<>();
+    private final List<String> nodes;
+
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        this.nodes = List.copyOf(nodes);
+        for (String node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                points.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    // null only when the ring has no nodes
+    public String ownerOf(String key) {
+        if (points.isEmpty()) return null;
+
+        SortedMap<Long, String> tail = points.tailMap(hash(key));
+        return tail.isEmpty() ? points.firstEntry().getValue() : tail.get(tail.firstKey());
+    }
+
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    // fnv-1a over utf-8, then a murmur3 finalizer so similar keys spread around the ring
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,136 @@
+package com.geopulse.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * fixed-size frequency sketch: estimates never undercount, and overcount by at most
+ * ~2/width of the total with high probability. uses conservative updates so only the
+ * smallest counters of a key grow, which keeps hot-key estimates tight.
+ */
+public class CountMinSketch {
+
+    // "GPC2": cells moved when hashing stopped going through String.hashCode, older files are dropped
+    private static final int MAGIC = 0x47504332;
+
+    private final int width;
+    private final int depth;
+    private final long[][] counters;
+    private long total;
+
+    public CountMinSketch(int width, int depth) {
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[depth][width];
+    }
+
+    public synchronized long add(String key) {
+        int[] cells = cellsOf(key);
+
+        long current = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            current = Math.min(current, counters[row][cells[row]]);
+        }
+
+        long updated = current + 1;
+        for (int row = 0; row < depth; row++) {
+            if (counters[row][cells[row]] < updated) {
+                counters[row][cells[row]] = updated;
+            }
+        }
+        total++;
+        return updated;
+    }
+
+    public synchronized long estimate(String key) {
+        int[] cells = cellsOf(key);
+
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row][cells[row]]);
+        }
+        return estimate;
+    }
+
+    // ages every count so yesterday's spikes fade out
+    public synchronized void halve() {
+        for (long[] row : counters) {
+            for (int i = 0; i < width; i++) {
+                row[i] >>>= 1;
+            }
+        }
+        total >>>= 1;
+    }
+
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    public synchronized void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(width);
+        out.writeInt(depth);
+        out.writeLong(total);
+        for (long[] row : counters) {
+            for (long counter : row) {
+                out.writeLong(counter);
+            }
+        }
+    }
+
+    // false (and nothing loaded) when the stored sketch has a different shape or hashing
+    public synchronized boolean readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != width || in.readInt() != depth) {
+            return false;
+        }
+
+        long storedTotal = in.readLong();
+        long[][] stored = new long[depth][width];
+        for (long[] row : stored) {
+            for (int i = 0; i < width; i++) {
+                row[i] = in.readLong();
+            }
+        }
+
+        for (int row = 0; row < depth; row++) {
+            System.arraycopy(stored[row], 0, counters[row], 0, width);
+        }
+        total = storedTotal;
+        return true;
+    }
+
+    // one cell per row from two halves of a 64-bit hash (Kirsch-Mitzenmacher). hashing the chars
+    // directly keeps the rows independent; going through the 32-bit String.hashCode would make
+    // every key that collides there collide in all rows at once
+    private int[] cellsOf(String key) {
+        long h = hash64(key);
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32) | 1; // odd, so the rows never all land on one cell
+
+        int[] cells = new int[depth];
+        for (int row = 0; row < depth; row++) {
+            cells[row] = Math.floorMod(h1 + row * h2, width);
+        }
+        return cells;
+    }
+
+    static long hash64(String key) {
+        long h = 0x9e3779b97f4a7c15L ^ key.length();
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001b3L;
+            h = Long.rotateLeft(h, 29);
+        }
+        return mix(h);
+    }
+
+    private static long mix(long x) {
+        // murmur3 finalizer, spreads the accumulated chars over all 64 bits
+        x ^= x >>> 33;
+        x *= 0xff51afd7ed558ccdL;
+        x ^= x >>> 33;
+        x *= 0xc4ceb9fe1a85ec53L;
+        x ^= x >>> 33;
+        return x;
+    }
+}
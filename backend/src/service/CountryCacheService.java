@@ -0,0 +1,147 @@
+package com.geopulse.service;
+
+import com.geopulse.model.CountryInfo;
+import com.geopulse.model.NewsArticle;
+import com.geopulse.profiling.CacheLookupEvent;
+import com.geopulse.service.CacheTtlPolicy.FieldGroup;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class CountryCacheService {
+
+    @Autowired
+    private CountryCacheStore cacheStore;
+
+    @Autowired
+    private CacheTtlPolicy ttlPolicy;
+
+    @Autowired
+    private CountryNewsLog newsLog;
+
+    // news is short-lived and never persisted
+    private final Map<String, CachedNews> newsByCountry = new ConcurrentHashMap<>();
+
+    private static class CachedNews {
+        final List<NewsArticle> articles;
+        final long expiresAtMillis;
+
+        CachedNews(List<NewsArticle> articles, long expiresAtMillis) {
+            this.articles = articles;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    public CountryInfo getCachedCountryInfo(String countryName) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        event.country = countryName;
+        try {
+            CountryInfo cached = cacheStore.findByName(countryName);
+            event.outcome = cached == null ? "miss" : cached.isFactsValid() ? "hit" : "stale";
+            return cached;
+
+        } catch (Exception e) {
+            event.outcome = "error";
+            System.err.println("Error querying cache: " + e.getMessage());
+            return null;
+        } finally {
+            event.commit();
+        }
+    }
+
+    // cheap check used to decide how a request is admitted, only stale facts need upstream
+    public boolean hasValidEntry(String countryName) {
+        CountryInfo cached = getCachedCountryInfo(countryName);
+        return cached != null && cached.isFactsValid();
+    }
+
+    // null when there's nothing cached or it has expired
+    public List<NewsArticle> getCachedNews(String countryName) {
+        CachedNews cached = newsByCountry.get(countryName.toLowerCase());
+        if (cached == null || cached.expiresAtMillis <= System.currentTimeMillis()) {
+            return null;
+        }
+        return cached.articles;
+    }
+
+    // 0 when there's no news cached for the country
+    public long getNewsExpiresAtMillis(String countryName) {
+        CachedNews cached = newsByCountry.get(countryName.toLowerCase());
+        return cached == null ? 0 : cached.expiresAtMillis;
+    }
+
+    public void cacheNews(String countryName, List<NewsArticle> news) {
+        if (news == null || news.isEmpty()) return;
+
+        long expiresAt = System.currentTimeMillis() + ttlPolicy.jitteredTtlMs(FieldGroup.NEWS);
+        newsByCountry.put(countryName.toLowerCase(), new CachedNews(List.copyOf(news), expiresAt));
+        // every fresh batch of news also advances the country's delta log
+        newsLog.append(countryName, news);
+    }
+
+    // drop expired news so countries nobody asks about again don't pile up
+    @Scheduled(fixedDelayString = "${cache.ttl.news-ms:300000}")
+    public void evictExpiredNews() {
+        long now = System.currentTimeMillis();
+        newsByCountry.values().removeIf(cached -> cached.expiresAtMillis <= now);
+    }
+
+    public void cacheCountryInfo(CountryInfo countryInfo) {
+        try {
+            // update the existing entry when it expired, names are unique
+            CountryInfo cacheInfo = getCachedCountryInfo(countryInfo.getCountryName());
+            if (cacheInfo == null) {
+                cacheInfo = new CountryInfo(countryInfo.getCountryName());
+            }
+
+            // remove news before caching
+            cacheInfo.setCapital(countryInfo.getCapital());
+            cacheInfo.setPopulation(countryInfo.getPopulation());
+            cacheInfo.setRegion(countryInfo.getRegion());
+            cacheInfo.setSubregion(countryInfo.getSubregion());
+            cacheInfo.setArea(countryInfo.getArea());
+            cacheInfo.setCurrency(countryInfo.getCurrency());
+            cacheInfo.setLanguage(countryInfo.getLanguage());
+            cacheInfo.setGdpPerCapita(countryInfo.getGdpPerCapita());
+            cacheInfo.setGeopoliticalRiskIndex(countryInfo.getGeopoliticalRiskIndex());
+            cacheInfo.setFlagEmoji(countryInfo.getFlagEmoji());
+            cacheInfo.setCountryCode(countryInfo.getCountryCode());
+            cacheInfo.setLatitude(countryInfo.getLatitude());
+            cacheInfo.setLongitude(countryInfo.getLongitude());
+            cacheInfo.setBorders(countryInfo.getBorders());
+            cacheInfo.setCachedAt(LocalDateTime.now());
+            cacheInfo.setFactsExpiresAt(ttlPolicy.expiresAt(FieldGroup.FACTS));
+            cacheInfo.setRiskExpiresAt(ttlPolicy.expiresAt(FieldGroup.RISK));
+
+            cacheStore.save(cacheInfo);
+
+        } catch (Exception e) {
+            System.err.println("Error caching country info: " + e.getMessage());
+        }
+    }
+
+    // only the derived fields were recomputed, leave the facts and their expiry alone
+    public void cacheDerivedFields(CountryInfo countryInfo) {
+        try {
+            CountryInfo cacheInfo = getCachedCountryInfo(countryInfo.getCountryName());
+            if (cacheInfo == null) return;
+
+            cacheInfo.setGdpPerCapita(countryInfo.getGdpPerCapita());
+            cacheInfo.setGeopoliticalRiskIndex(countryInfo.getGeopoliticalRiskIndex());
+            cacheInfo.setRiskExpiresAt(ttlPolicy.expiresAt(FieldGroup.RISK));
+            cacheStore.save(cacheInfo);
+
+            countryInfo.setRiskExpiresAt(cacheInfo.getRiskExpiresAt());
+
+        } catch (Exception e) {
+            System.err.println("Error caching derived country fields: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.geopulse.service;
+
+import com.geopulse.model.CountryInfo;
+
+/**
+ * where cached country facts live between requests. the default profile keeps them in the
+ * jpa country_cache table; the fast-startup profile swaps in an in-memory map so the app
+ * boots without a datasource, hibernate or h2.
+ */
+public interface CountryCacheStore {
+
+    // null when nothing is cached under that name, names match case-insensitively
+    CountryInfo findByName(String countryName);
+
+    // inserts the entry, or replaces the one with the same country name
+    void save(CountryInfo countryInfo);
+}
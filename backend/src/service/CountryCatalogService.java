@@ -0,0 +1,116 @@
+package com.geopulse.service;
+
+import com.geopulse.model.CountryInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * the full list of countries, refreshed from restcountries in one call.
+ * views built over every country (regions, geo, export) register a listener and rebuild on refresh.
+ */
+@Service
+public class CountryCatalogService {
+    
+    @Autowired
+    private CountryDataService countryDataService;
+    
+    @Value("${countries.catalog.retry-initial-ms:5000}")
+    private long retryInitialMs;
+    
+    @Value("${countries.catalog.retry-max-ms:300000}")
+    private long retryMaxMs;
+    
+    private volatile List<CountryInfo> countries = List.of();
+    private volatile long version = 0;
+    
+    // backoff state for retries until the first successful load, only touched by the retry job
+    private long retryDelayMs = -1;
+    private long nextRetryAtMillis = 0;
+    
+    // one load at a time; nobody waits on a lock while the upstream calls are slow
+    private final AtomicBoolean loading = new AtomicBoolean();
+    
+    private final List<Consumer<List<CountryInfo>>> refreshListeners = new CopyOnWriteArrayList<>();
+    
+    public void addRefreshListener(Consumer<List<CountryInfo>> listener) {
+        refreshListeners.add(listener);
+        // late registrations still get the current data
+        if (!countries.isEmpty()) {
+            listener.accept(countries);
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${countries.catalog.refresh-interval-ms:86400000}")
+    public void refresh() {
+        load();
+    }
+    
+    // true once a non-empty catalog has been published, false when it failed or another load is running
+    private boolean load() {
+        if (!loading.compareAndSet(false, true)) return false;
+        
+        try {
+            List<CountryInfo> fresh = List.copyOf(countryDataService.fetchAllCountries());
+            if (fresh.isEmpty()) return false;
+            
+            countries = fresh;
+            version = System.currentTimeMillis();
+            
+            for (Consumer<List<CountryInfo>> listener : refreshListeners) {
+                try {
+                    listener.accept(fresh);
+                } catch (Exception e) {
+                    System.err.println("Error rebuilding view after catalog refresh: " + e.getMessage());
+                }
+            }
+            
+            System.out.println("Country catalog refreshed: " + fresh.size() + " countries");
+            return true;
+            
+        } catch (Exception e) {
+            System.err.println("Error refreshing country catalog: " + e.getMessage());
+            return false;
+        } finally {
+            loading.set(false);
+        }
+    }
+    
+    // every view built on the catalog answers 503 until it loads, so a failed first load
+    // is retried with exponential backoff instead of waiting for the daily refresh
+    @Scheduled(fixedDelay = 1000)
+    public void retryWhileEmpty() {
+        if (!countries.isEmpty() || loading.get()) return;
+        
+        long now = System.currentTimeMillis();
+        if (retryDelayMs < 0) {
+            // the regular refresh gets the first attempt
+            retryDelayMs = retryInitialMs;
+            nextRetryAtMillis = now + retryDelayMs;
+            return;
+        }
+        if (now < nextRetryAtMillis) return;
+        
+        if (!load()) {
+            retryDelayMs = Math.min(retryMaxMs, retryDelayMs * 2);
+            // counted from the end of the attempt, a slow failure doesn't eat into the wait
+            nextRetryAtMillis = System.currentTimeMillis() + retryDelayMs;
+            System.err.println("Country catalog still empty, retrying in " + retryDelayMs / 1000 + "s");
+        }
+    }
+    
+    public List<CountryInfo> getCountries() {
+        return countries;
+    }
+    
+    // changes on every successful refresh, 0 until the first one
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,207 @@
+package com.geopulse.service;
+
+import com.geopulse.model.CountryInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * column-oriented snapshot of every country for region aggregates and rankings.
+ * metrics live in primitive arrays; per-group stats and sort orders are precomputed
+ * whenever the catalog refreshes, ad-hoc filters run as parallel scans.
+ */
+@Service
+public class CountryColumnarView {
+
+    public enum Metric {
+        POPULATION("population"),
+        AREA("area"),
+        GDP_PER_CAPITA("gdpPerCapita"),
+        RISK("risk");
+
+        private final String paramName;
+
+        Metric(String paramName) {
+            this.paramName = paramName;
+        }
+
+        public static Metric fromParam(String name) {
+            for (Metric metric : values()) {
+                if (metric.paramName.equalsIgnoreCase(name)) return metric;
+            }
+            throw new IllegalArgumentException("Unknown metric '" + name + "'");
+        }
+    }
+
+    public enum GroupBy { REGION, SUBREGION }
+
+    public static class GroupStats {
+        private final String group;
+        private int count;
+        private double sum;
+        private double min = Double.MAX_VALUE;
+        private double max = -Double.MAX_VALUE;
+
+        GroupStats(String group) {
+            this.group = group;
+        }
+
+        void add(double value) {
+            if (Double.isNaN(value)) return;
+            count++;
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        public String getGroup() { return group; }
+        public int getCount() { return count; }
+        public double getSum() { return sum; }
+        public double getMin() { return count == 0 ? 0 : min; }
+        public double getMax() { return count == 0 ? 0 : max; }
+        public double getAverage() { return count == 0 ? 0 : sum / count; }
+    }
+
+    // filter bounds for an ad-hoc scan, null means unbounded
+    public static class Filter {
+        public String region;
+        public String subregion;
+        public Double minPopulation;
+        public Double maxPopulation;
+        public Double minRisk;
+        public Double maxRisk;
+        public Double minGdpPerCapita;
+        public Double maxGdpPerCapita;
+    }
+
+    // immutable, swapped in whole on rebuild so readers never see a half-built view
+    private static class Snapshot {
+        final CountryInfo[] rows;
+        final String[] regions;
+        final String[] subregions;
+        final double[][] columns = new double[Metric.values().length][];
+        // row indexes sorted by each metric, descending, NaN last
+        final int[][] sortedDesc = new int[Metric.values().length][];
+        final Map<GroupBy, Map<Metric, Map<String, GroupStats>>> groupStats = new HashMap<>();
+
+        Snapshot(List<CountryInfo> countries) {
+            int n = countries.size();
+            rows = countries.toArray(new CountryInfo[0]);
+            regions = new String[n];
+            subregions = new String[n];
+            for (Metric metric : Metric.values()) {
+                columns[metric.ordinal()] = new double[n];
+            }
+
+            for (int i = 0; i < n; i++) {
+                CountryInfo c = rows[i];
+                regions[i] = c.getRegion() != null ? c.getRegion() : "Unknown";
+                subregions[i] = c.getSubregion() != null ? c.getSubregion() : "Unknown";
+                columns[Metric.POPULATION.ordinal()][i] = c.getPopulation() != null ? c.getPopulation() : Double.NaN;
+                columns[Metric.AREA.ordinal()][i] = c.getArea() != null ? c.getArea() : Double.NaN;
+                columns[Metric.GDP_PER_CAPITA.ordinal()][i] = c.getGdpPerCapita() != null ? c.getGdpPerCapita() : Double.NaN;
+                columns[Metric.RISK.ordinal()][i] = c.getGeopoliticalRiskIndex() != null ? c.getGeopoliticalRiskIndex() : Double.NaN;
+            }
+
+            for (Metric metric : Metric.values()) {
+                double[] column = columns[metric.ordinal()];
+                sortedDesc[metric.ordinal()] = IntStream.range(0, n).boxed()
+                    .sorted(Comparator.comparingDouble((Integer i) -> Double.isNaN(column[i]) ? Double.NEGATIVE_INFINITY : column[i])
+                        .reversed())
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            }
+
+            for (GroupBy groupBy : GroupBy.values()) {
+                String[] keys = groupBy == GroupBy.REGION ? regions : subregions;
+                Map<Metric, Map<String, GroupStats>> byMetric = new HashMap<>();
+
+                for (Metric metric : Metric.values()) {
+                    double[] column = columns[metric.ordinal()];
+                    Map<String, GroupStats> stats = new LinkedHashMap<>();
+                    for (int i = 0; i < n; i++) {
+                        stats.computeIfAbsent(keys[i], GroupStats::new).add(column[i]);
+                    }
+                    byMetric.put(metric, stats);
+                }
+                groupStats.put(groupBy, byMetric);
+            }
+        }
+    }
+
+    @Autowired
+    private CountryCatalogService catalogService;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of());
+
+    @PostConstruct
+    public void init() {
+        catalogService.addRefreshListener(this::rebuild);
+    }
+
+    public void rebuild(List<CountryInfo> countries) {
+        snapshot = new Snapshot(countries);
+    }
+
+    public boolean isEmpty() {
+        return snapshot.rows.length == 0;
+    }
+
+    // precomputed per-group stats, e.g. total population by subregion
+    public List<GroupStats> aggregate(GroupBy groupBy, Metric metric) {
+        return new ArrayList<>(snapshot.groupStats.get(groupBy).get(metric).values());
+    }
+
+    // top (or bottom) countries by a metric, optionally within one region or subregion
+    public List<CountryInfo> rank(Metric metric, String region, String subregion, int limit, boolean descending) {
+        Snapshot s = snapshot;
+        int[] order = s.sortedDesc[metric.ordinal()];
+        double[] column = s.columns[metric.ordinal()];
+        List<CountryInfo> result = new ArrayList<>();
+
+        for (int k = 0; k < order.length && result.size() < limit; k++) {
+            int i = descending ? order[k] : order[order.length - 1 - k];
+            if (Double.isNaN(column[i])) continue;
+            if (region != null && !s.regions[i].equalsIgnoreCase(region)) continue;
+            if (subregion != null && !s.subregions[i].equalsIgnoreCase(subregion)) continue;
+            result.add(s.rows[i]);
+        }
+
+        return result;
+    }
+
+    // ad-hoc filter as a parallel scan over the columns
+    public List<CountryInfo> filter(Filter filter) {
+        Snapshot s = snapshot;
+        double[] population = s.columns[Metric.POPULATION.ordinal()];
+        double[] risk = s.columns[Metric.RISK.ordinal()];
+        double[] gdp = s.columns[Metric.GDP_PER_CAPITA.ordinal()];
+
+        IntPredicate matches = i ->
+            (filter.region == null || s.regions[i].equalsIgnoreCase(filter.region))
+            && (filter.subregion == null || s.subregions[i].equalsIgnoreCase(filter.subregion))
+            && inRange(population[i], filter.minPopulation, filter.maxPopulation)
+            && inRange(risk[i], filter.minRisk, filter.maxRisk)
+            && inRange(gdp[i], filter.minGdpPerCapita, filter.maxGdpPerCapita);
+
+        return Arrays.stream(IntStream.range(0, s.rows.length).parallel().filter(matches).toArray())
+            .mapToObj(i -> s.rows[i])
+            .toList();
+    }
+
+    private static boolean inRange(double value, Double min, Double max) {
+        if (min == null && max == null) return true;
+        if (Double.isNaN(value)) return false;
+        return (min == null || value >= min) && (max == null || value <= max);
+    }
+}
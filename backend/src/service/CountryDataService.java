@@ -4,6 +4,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.geopulse.model.CountryInfo;
 import com.geopulse.model.CountryNotFoundException;
+import com.geopulse.profiling.CoalescingWaitEvent;
+import com.geopulse.profiling.UpstreamFetchEvent;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -12,8 +15,13 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class CountryDataService {
@@ -21,9 +29,27 @@ public class CountryDataService {
     @Value("${countries.api.url}")
     private String countriesApiUrl;
     
+    @Value("${countries.api.all-url}")
+    private String countriesAllUrl;
+    
+    @Value("${countries.api.geo-url}")
+    private String countriesGeoUrl;
+    
+    @Autowired
+    private CountryMentionIndex mentionIndex;
+    
+    @Autowired
+    private TimeSeriesStore timeSeriesStore;
+    
+    @Autowired
+    private ClusterService clusterService;
+    
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
     
+    // one upstream call per country at a time, concurrent misses wait for it
+    private final Map<String, CompletableFuture<CountryInfo>> inFlightFetches = new ConcurrentHashMap<>();
+    
     // dynamic risk calculation based on multiple factors
     private static final Map<String, Double> REGIONAL_BASE_RISK = new HashMap<>();
     private static final Map<String, RiskFactors> COUNTRY_RISK_FACTORS = new HashMap<>();
@@ -155,6 +181,71 @@ public class CountryDataService {
     }
     
     public CountryInfo fetchCountryData(String countryName) {
+        // in cluster mode another node may own this country, it does the upstream call
+        String owner = clusterService.ownerOf(countryName.trim());
+        if (!owner.equals(clusterService.getSelfUrl())) {
+            try {
+                CountryInfo info = clusterService.fetchCountryFromOwner(owner, countryName.trim());
+                mentionIndex.registerCountry(info);
+                return info;
+            } catch (CountryNotFoundException e) {
+                throw e;
+            } catch (Exception e) {
+                // owner unreachable, serving it ourselves beats failing
+                System.err.println("Error forwarding " + countryName + " to " + owner + ": " + e.getMessage());
+            }
+        }
+        
+        return fetchCountryDataLocally(countryName);
+    }
+    
+    // always hits restcountries from this node, used by the owner side of cluster forwarding
+    public CountryInfo fetchCountryDataLocally(String countryName) {
+        String key = countryName.trim().toLowerCase();
+        CompletableFuture<CountryInfo> fetch = new CompletableFuture<>();
+        CompletableFuture<CountryInfo> inFlight = inFlightFetches.putIfAbsent(key, fetch);
+        if (inFlight != null) {
+            return awaitInFlight(key, inFlight);
+        }
+        
+        try {
+            CountryInfo info = requestCountryData(countryName);
+            // waiters get a snapshot nobody writes to, the leader's own object is free to change
+            fetch.complete(info.copy());
+            return info;
+        } catch (RuntimeException e) {
+            fetch.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightFetches.remove(key, fetch);
+        }
+    }
+    
+    // callers get their own copy of the leader's snapshot, they set news on it
+    private CountryInfo awaitInFlight(String key, CompletableFuture<CountryInfo> inFlight) {
+        CoalescingWaitEvent event = new CoalescingWaitEvent();
+        event.begin();
+        event.country = key;
+        try {
+            CountryInfo shared = inFlight.join();
+            event.outcome = "shared";
+            return shared.copy();
+        } catch (CompletionException e) {
+            event.outcome = "error";
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+    
+    private CountryInfo requestCountryData(String countryName) {
+        UpstreamFetchEvent event = new UpstreamFetchEvent();
+        event.begin();
+        event.country = countryName;
+        event.outcome = "error";
         try {
             String url = countriesApiUrl + "/" + countryName.replace(" ", "%20");
             
@@ -163,12 +254,20 @@ public class CountryDataService {
                 .timeout(Duration.ofSeconds(10))
                 .build();
             
-            HttpResponse<String> response = httpClient.send(request, 
-                HttpResponse.BodyHandlers.ofString());
+            HttpResponse<byte[]> response = httpClient.send(request, 
+                HttpResponse.BodyHandlers.ofByteArray());
+            event.statusCode = response.statusCode();
+            event.bytes = response.body().length;
             
             if (response.statusCode() == 200) {
-                return parseCountryData(response.body(), countryName);
+                CountryInfo info = parseCountryData(response.body(), countryName);
+                event.outcome = "ok";
+                // so pooled news can be matched against this country's name and capital
+                mentionIndex.registerCountry(info);
+                timeSeriesStore.recordRisk(info);
+                return info;
             } else if (response.statusCode() == 404) {
+                event.outcome = "not_found";
                 throw new CountryNotFoundException("Country '" + countryName + "' not found. Please check the spelling and try again.");
             } else {
                 throw new RuntimeException("Failed to fetch country data: HTTP " + response.statusCode());
@@ -179,10 +278,12 @@ public class CountryDataService {
         } catch (Exception e) {
             System.err.println("Error fetching country data for " + countryName + ": " + e.getMessage());
             throw new RuntimeException("Unable to fetch data for '" + countryName + "'. Please try again.", e);
+        } finally {
+            event.commit();
         }
     }
     
-    private CountryInfo parseCountryData(String jsonResponse, String countryName) {
+    private CountryInfo parseCountryData(byte[] jsonResponse, String countryName) {
         try {
             JsonNode root = objectMapper.readTree(jsonResponse);
             
@@ -192,6 +293,127 @@ public class CountryDataService {
             
             JsonNode country = root.isArray() ? root.get(0) : root;
             
+            return parseCountryNode(country, countryName);
+            
+        } catch (CountryNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            System.err.println("Error parsing country data: " + e.getMessage());
+            e.printStackTrace();
+            throw new CountryNotFoundException("Unable to process data for '" + countryName + "'. Please verify the country name.");
+        }
+    }
+    
+    // gdp and risk only depend on the name and region, so they're refreshed without an upstream call
+    public void refreshDerivedFields(CountryInfo info) {
+        info.setGdpPerCapita(generateRealisticGdp(info.getCountryName(), info.getRegion()));
+        info.setGeopoliticalRiskIndex(calculateGeopoliticalRisk(info.getCountryName(), info.getRegion()));
+        timeSeriesStore.recordRisk(info);
+    }
+    
+    // every country in one call, used to build the catalog behind region views
+    public List<CountryInfo> fetchAllCountries() {
+        UpstreamFetchEvent event = new UpstreamFetchEvent();
+        event.begin();
+        event.country = "*";
+        event.outcome = "error";
+        try {
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(countriesAllUrl))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+            
+            HttpResponse<byte[]> response = httpClient.send(request, 
+                HttpResponse.BodyHandlers.ofByteArray());
+            event.statusCode = response.statusCode();
+            event.bytes = response.body().length;
+            
+            if (response.statusCode() != 200) {
+                throw new RuntimeException("Failed to fetch country list: HTTP " + response.statusCode());
+            }
+            
+            JsonNode root = objectMapper.readTree(response.body());
+            Map<String, JsonNode> geoByName = fetchGeoFields();
+            List<CountryInfo> countries = new ArrayList<>();
+            
+            for (JsonNode country : root) {
+                try {
+                    CountryInfo info = parseCountryNode(country, null);
+                    JsonNode geo = geoByName.get(info.getCountryName());
+                    if (geo != null) {
+                        applyGeoFields(info, geo);
+                    }
+                    countries.add(info);
+                } catch (Exception e) {
+                    // skip the odd malformed entry, don't lose the whole list
+                    System.err.println("Skipping country in list: " + e.getMessage());
+                }
+            }
+            
+            mentionIndex.registerCountries(countries);
+            for (CountryInfo info : countries) {
+                timeSeriesStore.recordRisk(info);
+            }
+            
+            event.outcome = "ok";
+            return countries;
+            
+        } catch (Exception e) {
+            System.err.println("Error fetching country list: " + e.getMessage());
+            throw new RuntimeException("Unable to fetch the country list. Please try again.", e);
+        } finally {
+            event.commit();
+        }
+    }
+    
+    // restcountries caps the list endpoint at 10 fields, so location data comes in a second call
+    private Map<String, JsonNode> fetchGeoFields() {
+        Map<String, JsonNode> geoByName = new HashMap<>();
+        try {
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(countriesGeoUrl))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+            
+            HttpResponse<String> response = httpClient.send(request, 
+                HttpResponse.BodyHandlers.ofString());
+            
+            if (response.statusCode() == 200) {
+                for (JsonNode country : objectMapper.readTree(response.body())) {
+                    if (country.has("name") && country.get("name").has("common")) {
+                        geoByName.put(country.get("name").get("common").asText(), country);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // countries still load without location data
+            System.err.println("Error fetching country locations: " + e.getMessage());
+        }
+        return geoByName;
+    }
+    
+    // cca3, latlng and borders; the list endpoint serves these in a separate call
+    private void applyGeoFields(CountryInfo info, JsonNode country) {
+        if (country.has("cca3")) {
+            info.setCountryCode(country.get("cca3").asText());
+        }
+        
+        if (country.has("latlng") && country.get("latlng").isArray() && country.get("latlng").size() == 2) {
+            info.setLatitude(country.get("latlng").get(0).asDouble());
+            info.setLongitude(country.get("latlng").get(1).asDouble());
+        }
+        
+        if (country.has("borders") && country.get("borders").isArray()) {
+            List<String> borders = new ArrayList<>();
+            for (JsonNode border : country.get("borders")) {
+                borders.add(border.asText());
+            }
+            info.setBorders(borders);
+        }
+    }
+    
+    private CountryInfo parseCountryNode(JsonNode country, String countryName) {
+        try {
             if (!country.has("name")) {
                 throw new CountryNotFoundException("Invalid country data received for '" + countryName + "'");
             }
@@ -254,6 +476,9 @@ public class CountryDataService {
                 }
             }
             
+            // location & neighbours
+            applyGeoFields(info, country);
+            
             // flag emoji - should be in API response
             if (country.has("flag")) {
                 info.setFlagEmoji(country.get("flag").asText());
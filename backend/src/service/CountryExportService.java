@@ -0,0 +1,141 @@
+package com.geopulse.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.geopulse.model.CountryInfo;
+import com.geopulse.model.CountryProjection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * bulk export of every country as NDJSON, one CountryInfo (risk and gdp included) per line.
+ * the file is written once per catalog refresh, plain and pre-gzipped, so serving it is
+ * a straight file transfer: nothing is serialized or buffered per request.
+ */
+@Service
+public class CountryExportService {
+
+    // everything the catalog knows, news and cache bookkeeping are per-request concerns
+    private static final CountryProjection EXPORT_FIELDS = CountryProjection.parse(
+        "capital,population,region,subregion,area,currency,language,gdpPerCapita,"
+            + "flagEmoji,countryCode,latitude,longitude,borders,geopoliticalRiskIndex");
+
+    @Autowired
+    private CountryCatalogService catalogService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${export.data-dir:data/export}")
+    private String dataDir;
+
+    // immutable, swapped in whole once both files are on disk
+    public static class Snapshot {
+        private final long version;
+        private final int count;
+        private final Path ndjson;
+        private final Path gzip;
+
+        Snapshot(long version, int count, Path ndjson, Path gzip) {
+            this.version = version;
+            this.count = count;
+            this.ndjson = ndjson;
+            this.gzip = gzip;
+        }
+
+        public long getVersion() { return version; }
+        public int getCount() { return count; }
+        public Path getNdjson() { return ndjson; }
+        public Path getGzip() { return gzip; }
+    }
+
+    private volatile Snapshot snapshot;
+    private Snapshot previous;
+
+    @PostConstruct
+    public void init() {
+        catalogService.addRefreshListener(this::rebuild);
+    }
+
+    // null until the catalog has loaded once
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public synchronized void rebuild(List<CountryInfo> countries) {
+        long version = catalogService.getVersion();
+        if (snapshot != null && snapshot.version == version) return;
+
+        try {
+            Path dir = Paths.get(dataDir);
+            Files.createDirectories(dir);
+            Path ndjson = dir.resolve("countries-" + version + ".ndjson");
+            Path gzip = dir.resolve("countries-" + version + ".ndjson.gz");
+
+            writeAtomically(ndjson, countries, false);
+            writeAtomically(gzip, countries, true);
+
+            // keep the previous files for downloads that started before the swap
+            Snapshot replaced = snapshot;
+            snapshot = new Snapshot(version, countries.size(), ndjson, gzip);
+            previous = replaced;
+            deleteStale(dir);
+
+            System.out.println("Export snapshot written: " + countries.size() + " countries, "
+                + Files.size(ndjson) + " bytes (" + Files.size(gzip) + " gzipped)");
+
+        } catch (IOException e) {
+            System.err.println("Error writing export snapshot: " + e.getMessage());
+        }
+    }
+
+    // one row at a time through a buffered stream, memory stays flat however many countries there are
+    private void writeAtomically(Path target, List<CountryInfo> countries, boolean gzip) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        // the buffer decides when bytes hit the file, not every row
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (OutputStream file = Files.newOutputStream(temp);
+             OutputStream out = new BufferedOutputStream(gzip ? new GZIPOutputStream(file, 64 * 1024) : file, 64 * 1024);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // rows are separated by our own newline, not jackson's default space
+            generator.setRootValueSeparator(null);
+            for (CountryInfo country : countries) {
+                writer.writeValue(generator, EXPORT_FIELDS.apply(country));
+                generator.writeRaw('\n');
+            }
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void deleteStale(Path dir) throws IOException {
+        Set<Path> keep = previous == null
+            ? Set.of(snapshot.ndjson, snapshot.gzip)
+            : Set.of(snapshot.ndjson, snapshot.gzip, previous.ndjson, previous.gzip);
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "countries-*")) {
+            for (Path file : files) {
+                if (!keep.contains(file)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.geopulse.service;
+
+import com.geopulse.model.CountryInfo;
+import com.geopulse.model.NewsArticle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * inverted index from country to the pooled articles that mention it.
+ * every ingested article is scanned once against all country names, demonyms and capitals.
+ */
+@Service
+public class CountryMentionIndex {
+
+    @Autowired
+    private NewsArticlePool articlePool;
+
+    // alias -> lowercase country name
+    private final Map<String, String> aliases = new ConcurrentHashMap<>();
+
+    // lowercase country name -> article ids, newest last
+    private final Map<String, Deque<Integer>> postings = new HashMap<>();
+
+    private volatile MultiPatternMatcher<String> matcher;
+
+    private static final int MAX_POSTINGS_PER_COUNTRY = 200;
+
+    public CountryMentionIndex() {
+        initializeAliases();
+        rebuildMatcher();
+    }
+
+    private void initializeAliases() {
+        // country, demonym(s), capital(s)
+        addAliases("Norway", "Norwegian", "Oslo");
+        addAliases("Denmark", "Danish", "Copenhagen");
+        addAliases("Sweden", "Swedish", "Stockholm");
+        addAliases("Switzerland", "Swiss", "Bern");
+        addAliases("Finland", "Finnish", "Helsinki");
+        addAliases("Iceland", "Icelandic", "Reykjavik");
+        addAliases("New Zealand", "Wellington");
+        addAliases("Luxembourg");
+        addAliases("Germany", "German", "Berlin");
+        addAliases("Netherlands", "Dutch", "Amsterdam", "The Hague");
+        addAliases("Austria", "Austrian", "Vienna");
+        addAliases("Canada", "Canadian", "Ottawa");
+        addAliases("Australia", "Australian", "Canberra");
+        addAliases("Japan", "Japanese", "Tokyo");
+        addAliases("United Kingdom", "UK", "Britain", "British", "London", "Downing Street");
+        addAliases("France", "French", "Paris");
+        addAliases("United States", "U.S.", "USA", "America", "American", "Washington", "White House");
+        addAliases("South Korea", "South Korean", "Seoul");
+        addAliases("Italy", "Italian", "Rome");
+        addAliases("Spain", "Spanish", "Madrid");
+        addAliases("Portugal", "Portuguese", "Lisbon");
+        addAliases("Czech Republic", "Czechia", "Czech", "Prague");
+        addAliases("Slovenia", "Slovenian", "Ljubljana");
+        addAliases("Estonia", "Estonian", "Tallinn");
+        addAliases("Chile", "Chilean", "Santiago");
+        addAliases("Uruguay", "Uruguayan", "Montevideo");
+        addAliases("Costa Rica", "Costa Rican", "San Jose");
+        addAliases("India", "Indian", "New Delhi", "Delhi");
+        addAliases("Ireland", "Irish", "Dublin");
+        addAliases("Poland", "Polish", "Warsaw");
+        addAliases("Slovakia", "Slovak", "Bratislava");
+        addAliases("Hungary", "Hungarian", "Budapest");
+        addAliases("Greece", "Greek", "Athens");
+        addAliases("Brazil", "Brazilian", "Brasilia");
+        addAliases("Argentina", "Argentine", "Argentinian", "Buenos Aires");
+        addAliases("Mexico", "Mexican", "Mexico City");
+        addAliases("South Africa", "South African", "Pretoria", "Cape Town", "Johannesburg");
+        addAliases("Indonesia", "Indonesian", "Jakarta");
+        addAliases("Thailand", "Thai", "Bangkok");
+        addAliases("Philippines", "Filipino", "Philippine", "Manila");
+        addAliases("Honduras", "Honduran", "Tegucigalpa");
+        addAliases("Nicaragua", "Nicaraguan", "Managua");
+        addAliases("El Salvador", "Salvadoran", "San Salvador");
+        addAliases("Guatemala", "Guatemalan", "Guatemala City");
+        addAliases("China", "Chinese", "Beijing");
+        addAliases("Russia", "Russian", "Moscow", "Kremlin");
+        addAliases("Iran", "Iranian", "Tehran");
+        addAliases("North Korea", "North Korean", "Pyongyang");
+        addAliases("Venezuela", "Venezuelan", "Caracas");
+        addAliases("Belarus", "Belarusian", "Minsk");
+        addAliases("Myanmar", "Burma", "Burmese", "Naypyidaw");
+        addAliases("Ukraine", "Ukrainian", "Kyiv", "Kiev");
+        addAliases("Afghanistan", "Afghan", "Kabul");
+        addAliases("Iraq", "Iraqi", "Baghdad");
+        addAliases("Syria", "Syrian", "Damascus");
+        addAliases("Yemen", "Yemeni", "Sanaa");
+        addAliases("Libya", "Libyan", "Tripoli");
+        addAliases("Somalia", "Somali", "Mogadishu");
+        addAliases("South Sudan", "South Sudanese", "Juba");
+        addAliases("Central African Republic", "Bangui");
+        addAliases("Democratic Republic of the Congo", "DR Congo", "DRC", "Congolese", "Kinshasa");
+        addAliases("Chad", "Chadian", "N'Djamena");
+        addAliases("Mali", "Malian", "Bamako");
+        addAliases("Sudan", "Sudanese", "Khartoum");
+        addAliases("Nigeria", "Nigerian", "Abuja", "Lagos");
+        addAliases("Pakistan", "Pakistani", "Islamabad");
+        addAliases("Bangladesh", "Bangladeshi", "Dhaka");
+        addAliases("Turkey", "Turkish", "Türkiye", "Ankara", "Istanbul");
+        addAliases("Egypt", "Egyptian", "Cairo");
+        addAliases("Ethiopia", "Ethiopian", "Addis Ababa");
+        addAliases("Israel", "Israeli", "Jerusalem", "Tel Aviv");
+    }
+
+    private void addAliases(String countryName, String... extra) {
+        String key = countryName.toLowerCase();
+        aliases.put(key, key);
+        for (String alias : extra) {
+            aliases.put(alias.toLowerCase(), key);
+        }
+    }
+
+    // learn names and capitals of countries we fetch that aren't in the built-in table
+    public void registerCountry(CountryInfo info) {
+        if (learnAliases(info)) {
+            rebuildMatcher();
+        }
+    }
+
+    // same for a whole list, with a single automaton rebuild at the end
+    public void registerCountries(List<CountryInfo> countries) {
+        boolean changed = false;
+        for (CountryInfo info : countries) {
+            changed |= learnAliases(info);
+        }
+        if (changed) {
+            rebuildMatcher();
+        }
+    }
+
+    private boolean learnAliases(CountryInfo info) {
+        if (info == null || info.getCountryName() == null) return false;
+
+        String key = info.getCountryName().toLowerCase();
+        boolean changed = aliases.putIfAbsent(key, key) == null;
+
+        String capital = info.getCapital();
+        if (capital != null && !capital.equals("N/A") && capital.length() > 2) {
+            changed |= aliases.putIfAbsent(capital.toLowerCase(), key) == null;
+        }
+
+        return changed;
+    }
+
+    // maps user input like "usa" or "britain" onto the indexed country key
+    public String resolveCountry(String name) {
+        String lower = name.trim().toLowerCase();
+        return aliases.getOrDefault(lower, lower);
+    }
+
+    private synchronized void rebuildMatcher() {
+        matcher = new MultiPatternMatcher<>(new HashMap<>(aliases));
+    }
+
+    // scan one pooled article and post it under every country it mentions
+    public Set<String> index(int articleId, NewsArticle article) {
+        String description = article.getDescription() != null ? article.getDescription() : "";
+        Set<String> countries = matcher.findAll(article.getTitle() + " \n " + description);
+
+        synchronized (postings) {
+            for (String country : countries) {
+                Deque<Integer> ids = postings.computeIfAbsent(country, k -> new ArrayDeque<>());
+                ids.addLast(articleId);
+                while (ids.size() > MAX_POSTINGS_PER_COUNTRY) {
+                    ids.pollFirst();
+                }
+            }
+        }
+
+        return countries;
+    }
+
+    // newest articles mentioning the country, pruning anything the pool already evicted
+    public List<NewsArticle> findArticles(String countryName, int limit) {
+        synchronized (postings) {
+            Deque<Integer> ids = postings.get(resolveCountry(countryName));
+            if (ids == null) return new ArrayList<>();
+
+            int[] newestFirst = new int[ids.size()];
+            Iterator<Integer> it = ids.descendingIterator();
+            for (int i = 0; i < newestFirst.length; i++) {
+                newestFirst[i] = it.next();
+            }
+
+            // one pool call for the whole walk instead of one per id
+            List<NewsArticle> result = articlePool.getAll(newestFirst, limit);
+
+            it = ids.descendingIterator();
+            for (int i = 0; i < newestFirst.length && it.hasNext(); i++) {
+                it.next();
+                if (newestFirst[i] < 0) {
+                    it.remove();
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.geopulse.service;
+
+import com.geopulse.model.NewsArticle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * append-only log of the articles each country has served, for incremental polling.
+ * every newly seen article gets the next version of its country's log, so a client
+ * that remembers the last version only ever downloads what was added after it.
+ *
+ * versions start at the process start time in millis, which keeps them increasing
+ * across restarts: a version handed out by an earlier process is older than anything
+ * we still hold and simply gets a reset.
+ */
+@Service
+public class CountryNewsLog {
+
+    @Value("${news.log.max-entries-per-country:200}")
+    private int maxEntriesPerCountry;
+
+    private final long baseVersion = System.currentTimeMillis();
+
+    private final Map<String, CountryLog> logs = new ConcurrentHashMap<>();
+
+    private static class Entry {
+        final long version;
+        final NewsArticle article;
+
+        Entry(long version, NewsArticle article) {
+            this.version = version;
+            this.article = article;
+        }
+    }
+
+    private static class CountryLog {
+        final Deque<Entry> entries = new ArrayDeque<>();
+        final Set<String> keys = new HashSet<>();
+        long version;
+
+        CountryLog(long baseVersion) {
+            this.version = baseVersion;
+        }
+    }
+
+    public static class Delta {
+        private final long version;
+        private final boolean reset;
+        private final List<NewsArticle> articles;
+
+        Delta(long version, boolean reset, List<NewsArticle> articles) {
+            this.version = version;
+            this.reset = reset;
+            this.articles = articles;
+        }
+
+        public long getVersion() { return version; }
+        public boolean isReset() { return reset; }
+        public List<NewsArticle> getArticles() { return articles; }
+    }
+
+    // appends the articles the log hasn't seen yet, returns the country's version afterwards
+    public long append(String countryName, List<NewsArticle> articles) {
+        CountryLog log = logs.computeIfAbsent(countryName.toLowerCase(), k -> new CountryLog(baseVersion));
+        if (articles == null) return currentVersion(log);
+
+        synchronized (log) {
+            // feeds list newest first, log oldest first so versions follow publication order
+            for (int i = articles.size() - 1; i >= 0; i--) {
+                NewsArticle article = articles.get(i);
+                if (log.keys.add(keyOf(article))) {
+                    log.entries.addLast(new Entry(++log.version, article));
+                }
+            }
+
+            while (log.entries.size() > maxEntriesPerCountry) {
+                log.keys.remove(keyOf(log.entries.removeFirst().article));
+            }
+            return log.version;
+        }
+    }
+
+    public long getVersion(String countryName) {
+        CountryLog log = logs.get(countryName.toLowerCase());
+        return log == null ? baseVersion : currentVersion(log);
+    }
+
+    /**
+     * articles added after the given version, newest first and at most limit of them.
+     * a null, unknown or already trimmed version resets the client to the latest articles.
+     */
+    public Delta since(String countryName, Long sinceVersion, int limit) {
+        CountryLog log = logs.get(countryName.toLowerCase());
+        if (log == null) {
+            boolean reset = sinceVersion == null || sinceVersion != baseVersion;
+            return new Delta(baseVersion, reset, List.of());
+        }
+
+        synchronized (log) {
+            long oldest = log.entries.isEmpty() ? log.version : log.entries.peekFirst().version - 1;
+            boolean reset = sinceVersion == null || sinceVersion < oldest || sinceVersion > log.version;
+            long after = reset ? Long.MIN_VALUE : sinceVersion;
+
+            List<NewsArticle> added = new ArrayList<>();
+            Iterator<Entry> newestFirst = log.entries.descendingIterator();
+            while (newestFirst.hasNext()) {
+                Entry entry = newestFirst.next();
+                if (entry.version <= after) break;
+                if (added.size() == limit) {
+                    // more is new than fits, the client starts over from the latest
+                    reset = true;
+                    break;
+                }
+                added.add(entry.article);
+            }
+            return new Delta(log.version, reset, added);
+        }
+    }
+
+    private long currentVersion(CountryLog log) {
+        synchronized (log) {
+            return log.version;
+        }
+    }
+
+    private String keyOf(NewsArticle article) {
+        return article.getUrl() != null ? article.getUrl() : String.valueOf(article.getTitle());
+    }
+}
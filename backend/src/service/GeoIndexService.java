@@ -0,0 +1,213 @@
+package com.geopulse.service;
+
+import com.geopulse.model.CountryInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * in-memory spatial and border indexes over the country catalog.
+ * nearest-N runs on a 3d k-d tree of unit vectors (so distances wrap around the globe),
+ * boxes on a 2d lat/lng k-d tree, neighbours on a border adjacency graph.
+ */
+@Service
+public class GeoIndexService {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    public static class GeoMatch {
+        private final CountryInfo country;
+        private final double distanceKm;
+        private final int hops;
+
+        GeoMatch(CountryInfo country, double distanceKm, int hops) {
+            this.country = country;
+            this.distanceKm = distanceKm;
+            this.hops = hops;
+        }
+
+        public CountryInfo getCountry() { return country; }
+        public double getDistanceKm() { return Math.round(distanceKm * 10.0) / 10.0; }
+        public int getHops() { return hops; }
+    }
+
+    private static class Snapshot {
+        final CountryInfo[] rows;
+        final Map<String, Integer> indexByName = new HashMap<>();
+        final KdTree sphereTree;
+        final KdTree latLngTree;
+        final int[][] adjacency;
+
+        Snapshot(List<CountryInfo> countries) {
+            // only countries with a location take part in the spatial indexes
+            rows = countries.stream()
+                .filter(c -> c.getLatitude() != null && c.getLongitude() != null)
+                .toArray(CountryInfo[]::new);
+
+            Map<String, Integer> indexByCode = new HashMap<>();
+            double[][] unitVectors = new double[rows.length][];
+            double[][] latLng = new double[rows.length][];
+
+            for (int i = 0; i < rows.length; i++) {
+                CountryInfo c = rows[i];
+                indexByName.put(c.getCountryName().toLowerCase(), i);
+                if (c.getCountryCode() != null) {
+                    indexByName.put(c.getCountryCode().toLowerCase(), i);
+                    indexByCode.put(c.getCountryCode(), i);
+                }
+                unitVectors[i] = toUnitVector(c.getLatitude(), c.getLongitude());
+                latLng[i] = new double[]{c.getLatitude(), c.getLongitude()};
+            }
+
+            sphereTree = new KdTree(unitVectors);
+            latLngTree = new KdTree(latLng);
+
+            adjacency = new int[rows.length][];
+            for (int i = 0; i < rows.length; i++) {
+                adjacency[i] = rows[i].getBorders().stream()
+                    .map(indexByCode::get)
+                    .filter(j -> j != null)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            }
+        }
+    }
+
+    @Autowired
+    private CountryCatalogService catalogService;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of());
+
+    @PostConstruct
+    public void init() {
+        catalogService.addRefreshListener(this::rebuild);
+    }
+
+    public void rebuild(List<CountryInfo> countries) {
+        snapshot = new Snapshot(countries);
+    }
+
+    public boolean isEmpty() {
+        return snapshot.rows.length == 0;
+    }
+
+    // null when we don't know the country or its location
+    public CountryInfo findCountry(String nameOrCode) {
+        Snapshot s = snapshot;
+        Integer index = s.indexByName.get(nameOrCode.trim().toLowerCase());
+        return index == null ? null : s.rows[index];
+    }
+
+    public List<GeoMatch> nearest(double latitude, double longitude, int n, String excludeCountry) {
+        Snapshot s = snapshot;
+        double[] query = toUnitVector(latitude, longitude);
+        // ask for one extra in case the origin country itself comes back
+        List<Integer> indexes = s.sphereTree.nearest(query, excludeCountry == null ? n : n + 1);
+
+        List<GeoMatch> result = new ArrayList<>();
+        for (int i : indexes) {
+            CountryInfo c = s.rows[i];
+            if (excludeCountry != null && c.getCountryName().equalsIgnoreCase(excludeCountry)) continue;
+            if (result.size() >= n) break;
+            result.add(new GeoMatch(c, haversineKm(latitude, longitude, c.getLatitude(), c.getLongitude()), -1));
+        }
+        return result;
+    }
+
+    // countries whose reference point falls in the box; minLng > maxLng crosses the antimeridian
+    public List<CountryInfo> withinBox(double minLat, double maxLat, double minLng, double maxLng) {
+        Snapshot s = snapshot;
+        List<Integer> indexes = new ArrayList<>();
+
+        if (minLng <= maxLng) {
+            indexes.addAll(s.latLngTree.range(new double[]{minLat, minLng}, new double[]{maxLat, maxLng}));
+        } else {
+            indexes.addAll(s.latLngTree.range(new double[]{minLat, minLng}, new double[]{maxLat, 180.0}));
+            indexes.addAll(s.latLngTree.range(new double[]{minLat, -180.0}, new double[]{maxLat, maxLng}));
+        }
+
+        return indexes.stream().distinct().map(i -> s.rows[i]).toList();
+    }
+
+    // breadth-first walk of land borders up to maxHops away, origin excluded
+    public List<GeoMatch> neighbours(CountryInfo origin, int maxHops) {
+        Snapshot s = snapshot;
+        Integer start = s.indexByName.get(origin.getCountryName().toLowerCase());
+        if (start == null) return List.of();
+
+        int[] hops = new int[s.rows.length];
+        Arrays.fill(hops, -1);
+        hops[start] = 0;
+
+        Queue<Integer> queue = new ArrayDeque<>();
+        queue.add(start);
+        List<GeoMatch> result = new ArrayList<>();
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            if (hops[current] >= maxHops) continue;
+
+            for (int next : s.adjacency[current]) {
+                if (hops[next] >= 0) continue;
+
+                hops[next] = hops[current] + 1;
+                queue.add(next);
+
+                CountryInfo c = s.rows[next];
+                result.add(new GeoMatch(c, haversineKm(origin.getLatitude(), origin.getLongitude(),
+                    c.getLatitude(), c.getLongitude()), hops[next]));
+            }
+        }
+
+        return result;
+    }
+
+    // average / max risk over a set of countries
+    public Map<String, Object> aggregateRisk(List<GeoMatch> matches) {
+        double sum = 0;
+        double max = 0;
+        int count = 0;
+
+        for (GeoMatch match : matches) {
+            Double risk = match.getCountry().getGeopoliticalRiskIndex();
+            if (risk == null) continue;
+            sum += risk;
+            max = Math.max(max, risk);
+            count++;
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", count);
+        stats.put("average", count == 0 ? 0.0 : Math.round(sum / count * 10.0) / 10.0);
+        stats.put("max", max);
+        return stats;
+    }
+
+    private static double[] toUnitVector(double latitude, double longitude) {
+        double lat = Math.toRadians(latitude);
+        double lng = Math.toRadians(longitude);
+        return new double[]{
+            Math.cos(lat) * Math.cos(lng),
+            Math.cos(lat) * Math.sin(lng),
+            Math.sin(lat)
+        };
+    }
+
+    private static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+            * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+    }
+}
@@ -0,0 +1,39 @@
+package com.geopulse.service;
+
+import com.geopulse.model.CountryInfo;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * plain map standing in for the country_cache table under the fast-startup profile.
+ * entries are copied in and out so callers can't change the cache by mutating
+ * what they got back, the same as with detached jpa entities.
+ */
+@Service
+@Profile("fast-startup")
+public class InMemoryCountryCacheStore implements CountryCacheStore {
+
+    private final Map<String, CountryInfo> entries = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    @Override
+    public CountryInfo findByName(String countryName) {
+        CountryInfo cached = entries.get(countryName.toLowerCase());
+        return cached == null ? null : withId(cached.copy(), cached.getId());
+    }
+
+    @Override
+    public void save(CountryInfo countryInfo) {
+        Long id = countryInfo.getId() != null ? countryInfo.getId() : nextId.getAndIncrement();
+        entries.put(countryInfo.getCountryName().toLowerCase(), withId(countryInfo.copy(), id));
+    }
+
+    private CountryInfo withId(CountryInfo info, Long id) {
+        info.setId(id);
+        return info;
+    }
+}
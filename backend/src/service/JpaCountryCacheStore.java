@@ -0,0 +1,42 @@
+package com.geopulse.service;
+
+import com.geopulse.model.CountryInfo;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.transaction.Transactional;
+import java.util.List;
+
+// the country_cache table, used unless the fast-startup profile is active
+@Service
+@Profile("!fast-startup")
+public class JpaCountryCacheStore implements CountryCacheStore {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public CountryInfo findByName(String countryName) {
+        TypedQuery<CountryInfo> query = entityManager.createQuery(
+            "SELECT c FROM CountryInfo c WHERE LOWER(c.countryName) = LOWER(:name)",
+            CountryInfo.class);
+        query.setParameter("name", countryName);
+
+        List<CountryInfo> results = query.getResultList();
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    @Override
+    @Transactional
+    public void save(CountryInfo countryInfo) {
+        // update the existing row when an entry expired, the name column is unique
+        if (countryInfo.getId() == null) {
+            entityManager.persist(countryInfo);
+        } else {
+            entityManager.merge(countryInfo);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.geopulse.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * static k-d tree over points in k dimensions, built once per data refresh.
+ * supports k-nearest (euclidean) and axis-aligned box queries; results are point indexes.
+ */
+public class KdTree {
+
+    private final double[][] points;
+    private final int dims;
+    // implicit tree: node i's point index lives in order[i], children are the two halves
+    private final int[] order;
+
+    public KdTree(double[][] points) {
+        this.points = points;
+        this.dims = points.length == 0 ? 0 : points[0].length;
+        this.order = new int[points.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        build(0, order.length, 0);
+    }
+
+    // median split on the current axis, recursively for both halves
+    private void build(int from, int to, int depth) {
+        if (to - from <= 1) return;
+
+        int axis = depth % dims;
+        Integer[] slice = new Integer[to - from];
+        for (int i = from; i < to; i++) {
+            slice[i - from] = order[i];
+        }
+        Arrays.sort(slice, (a, b) -> Double.compare(points[a][axis], points[b][axis]));
+        for (int i = from; i < to; i++) {
+            order[i] = slice[i - from];
+        }
+
+        int mid = (from + to) >>> 1;
+        build(from, mid, depth + 1);
+        build(mid + 1, to, depth + 1);
+    }
+
+    // indexes of the n closest points, nearest first
+    public List<Integer> nearest(double[] query, int n) {
+        // max-heap on distance so the worst candidate is evicted first
+        PriorityQueue<double[]> best = new PriorityQueue<>((a, b) -> Double.compare(b[1], a[1]));
+        nearest(query, n, 0, order.length, 0, best);
+
+        List<double[]> sorted = new ArrayList<>(best);
+        sorted.sort((a, b) -> Double.compare(a[1], b[1]));
+
+        List<Integer> result = new ArrayList<>(sorted.size());
+        for (double[] entry : sorted) {
+            result.add((int) entry[0]);
+        }
+        return result;
+    }
+
+    private void nearest(double[] query, int n, int from, int to, int depth, PriorityQueue<double[]> best) {
+        if (from >= to || n <= 0) return;
+
+        int mid = (from + to) >>> 1;
+        int index = order[mid];
+        double distance = squaredDistance(query, points[index]);
+
+        if (best.size() < n) {
+            best.add(new double[]{index, distance});
+        } else if (distance < best.peek()[1]) {
+            best.poll();
+            best.add(new double[]{index, distance});
+        }
+
+        int axis = depth % dims;
+        double delta = query[axis] - points[index][axis];
+
+        // search the side the query falls on first, the other only if it could hold something closer
+        if (delta < 0) {
+            nearest(query, n, from, mid, depth + 1, best);
+            if (best.size() < n || delta * delta < best.peek()[1]) {
+                nearest(query, n, mid + 1, to, depth + 1, best);
+            }
+        } else {
+            nearest(query, n, mid + 1, to, depth + 1, best);
+            if (best.size() < n || delta * delta < best.peek()[1]) {
+                nearest(query, n, from, mid, depth + 1, best);
+            }
+        }
+    }
+
+    // indexes of every point with min[d] <= p[d] <= max[d] in all dimensions
+    public List<Integer> range(double[] min, double[] max) {
+        List<Integer> result = new ArrayList<>();
+        range(min, max, 0, order.length, 0, result);
+        return result;
+    }
+
+    private void range(double[] min, double[] max, int from, int to, int depth, List<Integer> result) {
+        if (from >= to) return;
+
+        int mid = (from + to) >>> 1;
+        int index = order[mid];
+        double[] point = points[index];
+
+        boolean inside = true;
+        for (int d = 0; d < dims && inside; d++) {
+            inside = point[d] >= min[d] && point[d] <= max[d];
+        }
+        if (inside) {
+            result.add(index);
+        }
+
+        int axis = depth % dims;
+        if (min[axis] <= point[axis]) {
+            range(min, max, from, mid, depth + 1, result);
+        }
+        if (max[axis] >= point[axis]) {
+            range(min, max, mid + 1, to, depth + 1, result);
+        }
+    }
+
+    private double squaredDistance(double[] a, double[] b) {
+        double sum = 0;
+        for (int d = 0; d < dims; d++) {
+            double diff = a[d] - b[d];
+            sum += diff * diff;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,126 @@
+package com.geopulse.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Aho-Corasick automaton over lowercase patterns, each mapped to a value.
+ * one pass over the text finds every pattern that occurs as a whole word.
+ */
+public class MultiPatternMatcher<T> {
+
+    private class Node {
+        final Map<Character, Node> children = new HashMap<>();
+        Node fail;
+        // values of patterns ending here, with their lengths for the word-boundary check
+        final List<T> values = new ArrayList<>();
+        final List<Integer> lengths = new ArrayList<>();
+    }
+
+    private final Node root = new Node();
+
+    public MultiPatternMatcher(Map<String, T> patterns) {
+        for (Map.Entry<String, T> entry : patterns.entrySet()) {
+            addPattern(entry.getKey().toLowerCase(), entry.getValue());
+        }
+        buildFailureLinks();
+    }
+
+    private void addPattern(String pattern, T value) {
+        if (pattern.isEmpty()) return;
+
+        Node node = root;
+        for (char c : pattern.toCharArray()) {
+            node = node.children.computeIfAbsent(c, k -> new Node());
+        }
+        node.values.add(value);
+        node.lengths.add(pattern.length());
+    }
+
+    private void buildFailureLinks() {
+        Queue<Node> queue = new ArrayDeque<>();
+        root.fail = root;
+
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+
+        // breadth first so every shorter suffix already has its link
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                char c = entry.getKey();
+                Node child = entry.getValue();
+
+                Node fail = node.fail;
+                while (fail != root && !fail.children.containsKey(c)) {
+                    fail = fail.fail;
+                }
+                Node target = fail.children.get(c);
+                child.fail = (target != null && target != child) ? target : root;
+
+                // inherit outputs of the suffix state
+                child.values.addAll(child.fail.values);
+                child.lengths.addAll(child.fail.lengths);
+
+                queue.add(child);
+            }
+        }
+    }
+
+    // distinct values whose patterns appear in the text as whole words.
+    // a match nested inside a longer one is dropped, so "south sudan" doesn't also count as "sudan"
+    public Set<T> findAll(String text) {
+        Set<T> found = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) return found;
+
+        String lower = text.toLowerCase();
+        List<int[]> spans = new ArrayList<>();
+        List<T> spanValues = new ArrayList<>();
+        Node node = root;
+
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.fail;
+            }
+            node = node.children.getOrDefault(c, root);
+
+            for (int j = 0; j < node.values.size(); j++) {
+                int start = i - node.lengths.get(j) + 1;
+                if (isBoundary(lower, start - 1) && isBoundary(lower, i + 1)) {
+                    spans.add(new int[]{start, i});
+                    spanValues.add(node.values.get(j));
+                }
+            }
+        }
+
+        for (int a = 0; a < spans.size(); a++) {
+            boolean nested = false;
+            for (int b = 0; b < spans.size() && !nested; b++) {
+                int[] inner = spans.get(a);
+                int[] outer = spans.get(b);
+                nested = a != b && outer[0] <= inner[0] && outer[1] >= inner[1]
+                    && (outer[1] - outer[0]) > (inner[1] - inner[0]);
+            }
+            if (!nested) {
+                found.add(spanValues.get(a));
+            }
+        }
+
+        return found;
+    }
+
+    private boolean isBoundary(String text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+}
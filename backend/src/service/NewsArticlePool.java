@@ -0,0 +1,197 @@
+package com.geopulse.service;
+
+import com.geopulse.model.NewsArticle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntConsumer;
+
+/**
+ * shared pool of every article we've ingested, deduplicated by url.
+ * articles get increasing int ids so indexes can refer to them cheaply;
+ * once the pool is full the oldest ids are evicted first.
+ *
+ * storage is columnar: a ring of parallel arrays indexed by id % capacity, with
+ * source and category interned into small dictionaries and publish times kept as epoch millis.
+ * NewsArticle objects are only materialized when a caller asks for one; ranking reads the columns.
+ */
+@Service
+public class NewsArticlePool {
+
+    @Value("${news.pool.max-articles:5000}")
+    private int maxArticles;
+
+    private int[] ids;
+    private String[] titles;
+    private String[] descriptions;
+    private String[] urls;
+    private int[] sourceCodes;
+    private int[] categoryCodes;
+    private long[] publishedAt;
+
+    private final StringDictionary sources = new StringDictionary();
+    private final StringDictionary categories = new StringDictionary();
+
+    private final Map<String, Integer> idsByUrl = new HashMap<>();
+    private final List<IntConsumer> evictionListeners = new CopyOnWriteArrayList<>();
+    private int nextId = 0;
+
+    // small value dictionary, code 0 is reserved for null
+    static class StringDictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>(List.of(""));
+
+        int encode(String value) {
+            if (value == null) return 0;
+
+            Integer code = codes.get(value);
+            if (code != null) return code;
+
+            int next = values.size();
+            values.add(value);
+            codes.put(value, next);
+            return next;
+        }
+
+        String decode(int code) {
+            return code == 0 ? null : values.get(code);
+        }
+
+        int size() {
+            return values.size() - 1;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        ids = new int[maxArticles];
+        Arrays.fill(ids, -1);
+        titles = new String[maxArticles];
+        descriptions = new String[maxArticles];
+        urls = new String[maxArticles];
+        sourceCodes = new int[maxArticles];
+        categoryCodes = new int[maxArticles];
+        publishedAt = new long[maxArticles];
+    }
+
+    // indexes over pooled ids register here to drop evicted articles
+    public void addEvictionListener(IntConsumer listener) {
+        evictionListeners.add(listener);
+    }
+
+    // returns the article's id, or -1 when it was already in the pool
+    public synchronized int add(NewsArticle article) {
+        String key = keyOf(article.getUrl(), article.getTitle());
+        if (idsByUrl.containsKey(key)) {
+            return -1;
+        }
+
+        int id = nextId++;
+        int slot = id % maxArticles;
+
+        // the ring is full, the slot still holds the oldest article
+        if (ids[slot] >= 0) {
+            evict(slot);
+        }
+
+        ids[slot] = id;
+        titles[slot] = article.getTitle();
+        descriptions[slot] = article.getDescription();
+        urls[slot] = article.getUrl();
+        sourceCodes[slot] = sources.encode(article.getSource());
+        categoryCodes[slot] = categories.encode(article.getCategory());
+        publishedAt[slot] = article.getPublishedAtMillis();
+        idsByUrl.put(key, id);
+
+        return id;
+    }
+
+    // null when the article has been evicted
+    public synchronized NewsArticle get(int id) {
+        int slot = slotOf(id);
+        return slot < 0 ? null : materialize(slot);
+    }
+
+    // live articles for ids in the given order, at most limit, under one lock.
+    // evicted ids are overwritten with -1 so callers can prune them
+    public synchronized List<NewsArticle> getAll(int[] ids, int limit) {
+        List<NewsArticle> articles = new ArrayList<>(Math.min(ids.length, limit));
+        for (int i = 0; i < ids.length && articles.size() < limit; i++) {
+            int slot = slotOf(ids[i]);
+            if (slot < 0) {
+                ids[i] = -1;
+            } else {
+                articles.add(materialize(slot));
+            }
+        }
+        return articles;
+    }
+
+    // publish time column for ranking, no articles are built.
+    // evicted ids are overwritten with -1, unknown times come back as NewsArticle.UNKNOWN_TIME
+    public synchronized void readPublishedAt(int[] ids, long[] publishedAtMillis) {
+        for (int i = 0; i < ids.length; i++) {
+            int slot = slotOf(ids[i]);
+            if (slot < 0) {
+                ids[i] = -1;
+            } else {
+                publishedAtMillis[i] = publishedAt[slot];
+            }
+        }
+    }
+
+    public synchronized NewsArticle findByKey(String urlOrTitle) {
+        Integer id = idsByUrl.get(urlOrTitle);
+        return id != null ? get(id) : null;
+    }
+
+    public synchronized int size() {
+        return idsByUrl.size();
+    }
+
+    public synchronized int getDistinctSources() {
+        return sources.size();
+    }
+
+    private void evict(int slot) {
+        int evicted = ids[slot];
+        idsByUrl.remove(keyOf(urls[slot], titles[slot]));
+
+        ids[slot] = -1;
+        titles[slot] = null;
+        descriptions[slot] = null;
+        urls[slot] = null;
+
+        for (IntConsumer listener : evictionListeners) {
+            listener.accept(evicted);
+        }
+    }
+
+    private int slotOf(int id) {
+        if (id < 0) return -1;
+        int slot = id % maxArticles;
+        return ids[slot] == id ? slot : -1;
+    }
+
+    private NewsArticle materialize(int slot) {
+        NewsArticle article = new NewsArticle();
+        article.setTitle(titles[slot]);
+        article.setDescription(descriptions[slot]);
+        article.setUrl(urls[slot]);
+        article.setSource(sources.decode(sourceCodes[slot]));
+        article.setCategory(categories.decode(categoryCodes[slot]));
+        article.setPublishedAtMillis(publishedAt[slot]);
+        return article;
+    }
+
+    private String keyOf(String url, String title) {
+        return url != null ? url : title;
+    }
+}
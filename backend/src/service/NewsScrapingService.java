@@ -1,28 +1,114 @@
 package com.geopulse.service;
 
 import com.geopulse.model.NewsArticle;
+import com.geopulse.profiling.RssFetchEvent;
+import com.geopulse.profiling.RssParseEvent;
+import org.jsoup.Connection;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class NewsScrapingService {
     
+    public static final int MAX_ARTICLES = 8;
+    
+    private static final String WORLD_FEED = "https://feeds.bbci.co.uk/news/world/rss.xml";
+    
+    // regional feeds pulled into the shared pool regardless of which country is requested
+    private static final String[] POOL_FEEDS = {
+        "https://feeds.bbci.co.uk/news/world/africa/rss.xml",
+        "https://feeds.bbci.co.uk/news/world/middle_east/rss.xml"
+    };
+    
+    // how many indexed mentions are enough to skip the per-country feed fetch
+    public static final int MIN_INDEXED_ARTICLES = 3;
+    
+    @Autowired
+    private NewsArticlePool articlePool;
+    
+    @Autowired
+    private CountryMentionIndex mentionIndex;
+    
+    @Autowired
+    private NewsSearchIndex searchIndex;
+    
+    @Autowired
+    private TimeSeriesStore timeSeriesStore;
+    
+    @Autowired
+    private ClusterService clusterService;
+    
+    @Value("${cluster.feed-cache-ms:60000}")
+    private long feedCacheMs;
+    
+    @Value("${news.feed.fetch-threads:8}")
+    private int fetchThreads;
+    
+    @Value("${news.feed.fetch-queue:256}")
+    private int fetchQueue;
+    
+    // feed fetches block on the network, they get their own bounded pool instead of the common one
+    private ThreadPoolExecutor feedExecutor;
+    
     private final Map<String, String[]> countryRssFeeds;
+    private final Map<String, RecentFeed> recentFeeds = new ConcurrentHashMap<>();
+    
+    private static class RecentFeed {
+        final List<NewsArticle> articles;
+        final long fetchedAtMillis;
+        
+        RecentFeed(List<NewsArticle> articles, long fetchedAtMillis) {
+            this.articles = articles;
+            this.fetchedAtMillis = fetchedAtMillis;
+        }
+    }
     
     public NewsScrapingService() {
         this.countryRssFeeds = new HashMap<>();
         initializeRssFeeds();
     }
     
+    @PostConstruct
+    public void init() {
+        feedExecutor = new ThreadPoolExecutor(fetchThreads, fetchThreads, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(fetchQueue), runnable -> {
+                Thread thread = new Thread(runnable, "feed-fetch");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        feedExecutor.shutdownNow();
+    }
+    
     private void initializeRssFeeds() {
         // map countries to their RSS feeds (use BBC country pages as fallback)
         countryRssFeeds.put("germany", new String[]{"https://feeds.bbci.co.uk/news/world/europe/rss.xml"});
@@ -37,21 +123,32 @@ public class NewsScrapingService {
         countryRssFeeds.put("australia", new String[]{"https://feeds.bbci.co.uk/news/world/asia/rss.xml"});
     }
     
+    // newest pooled articles that mention the country, no feed is fetched
+    public List<NewsArticle> getIndexedNews(String countryName) {
+        return mentionIndex.findArticles(countryName, MAX_ARTICLES);
+    }
+    
     public List<NewsArticle> fetchNewsForCountry(String countryName) {
-        String lowerCountryName = countryName.toLowerCase();
-        String[] feeds = countryRssFeeds.get(lowerCountryName);
-        
-        if (feeds == null) {
-            // default to world news if country not found
-            feeds = new String[]{"https://feeds.bbci.co.uk/news/world/rss.xml"};
+        // articles from the shared pool that actually mention this country come first
+        List<NewsArticle> indexed = getIndexedNews(countryName);
+        if (indexed.size() >= MIN_INDEXED_ARTICLES) {
+            return indexed;
         }
         
-        List<NewsArticle> allArticles = new ArrayList<>();
+        List<NewsArticle> allArticles = new ArrayList<>(indexed);
+        Set<String> seen = new HashSet<>();
+        for (NewsArticle article : indexed) {
+            seen.add(keyOf(article));
+        }
         
-        for (String feedUrl : feeds) {
+        for (String feedUrl : getFeedUrls(countryName)) {
             try {
-                List<NewsArticle> articles = parseRssFeed(feedUrl, countryName);
-                allArticles.addAll(articles);
+                List<NewsArticle> articles = loadFeed(feedUrl, countryName);
+                for (NewsArticle article : articles) {
+                    if (seen.add(keyOf(article))) {
+                        allArticles.add(article);
+                    }
+                }
                 
                 if (allArticles.size() >= 10) break; // limit to 10 articles
                 
@@ -65,17 +162,132 @@ public class NewsScrapingService {
             allArticles = generateMockNews(countryName);
         }
         
-        return allArticles.subList(0, Math.min(allArticles.size(), 8));
+        return allArticles.subList(0, Math.min(allArticles.size(), MAX_ARTICLES));
+    }
+    
+    // feeds that carry news for a country, world news if we have nothing specific
+    public List<String> getFeedUrls(String countryName) {
+        String[] feeds = countryRssFeeds.get(countryName.toLowerCase());
+        
+        if (feeds == null) {
+            // default to world news if country not found
+            return List.of(WORLD_FEED);
+        }
+        
+        return List.of(feeds);
+    }
+    
+    // every feed this service ever scrapes
+    public Set<String> getKnownFeeds() {
+        Set<String> feeds = new LinkedHashSet<>();
+        for (String[] countryFeeds : countryRssFeeds.values()) {
+            feeds.addAll(List.of(countryFeeds));
+        }
+        feeds.addAll(List.of(POOL_FEEDS));
+        feeds.add(WORLD_FEED);
+        return feeds;
+    }
+    
+    // one fetch of every known feed, indexed once for all countries
+    @Scheduled(fixedDelayString = "${news.pool.refresh-interval-ms:300000}")
+    public void refreshNewsPool() {
+        Set<String> feeds = getKnownFeeds();
+        
+        List<CompletableFuture<List<NewsArticle>>> futures = new ArrayList<>();
+        for (String feedUrl : feeds) {
+            futures.add(fetchFeedAsync(feedUrl, null));
+        }
+        
+        int before = articlePool.size();
+        for (CompletableFuture<List<NewsArticle>> future : futures) {
+            try {
+                future.join();
+            } catch (Exception e) {
+                System.err.println("Error refreshing news pool: " + e.getMessage());
+            }
+        }
+        
+        System.out.println("News pool refreshed: " + feeds.size() + " feeds, " + 
+            (articlePool.size() - before) + " new articles");
+    }
+    
+    // fetch a single feed on the feed pool, used when streaming news as each feed completes.
+    // a full queue fails the future rather than queueing without bound
+    public CompletableFuture<List<NewsArticle>> fetchFeedAsync(String feedUrl, String countryName) {
+        try {
+            return CompletableFuture.supplyAsync(() -> loadFeed(feedUrl, countryName), feedExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    // in cluster mode each feed is scraped by its owner only, other nodes ingest the owner's copy
+    private List<NewsArticle> loadFeed(String feedUrl, String countryName) {
+        String owner = clusterService.ownerOf(feedUrl);
+        if (owner.equals(clusterService.getSelfUrl())) {
+            return fetchFeedLocally(feedUrl, countryName);
+        }
+        
+        try {
+            List<NewsArticle> articles = new ArrayList<>();
+            for (NewsArticle article : clusterService.fetchFeedFromOwner(owner, feedUrl)) {
+                articles.add(ingest(article));
+            }
+            return articles;
+        } catch (Exception e) {
+            // owner unreachable, scrape it ourselves this time
+            System.err.println("Error fetching feed from " + owner + ": " + e.getMessage());
+            return fetchFeedLocally(feedUrl, countryName);
+        }
+    }
+    
+    // owners keep their last scrape briefly so every node asking in one round shares it
+    public List<NewsArticle> fetchFeedLocally(String feedUrl, String countryName) {
+        if (!clusterService.isEnabled()) {
+            return parseRssFeed(feedUrl, countryName);
+        }
+        
+        RecentFeed recent = recentFeeds.get(feedUrl);
+        if (recent != null && System.currentTimeMillis() - recent.fetchedAtMillis < feedCacheMs) {
+            return recent.articles;
+        }
+        
+        List<NewsArticle> articles = parseRssFeed(feedUrl, countryName);
+        if (!articles.isEmpty()) {
+            recentFeeds.put(feedUrl, new RecentFeed(List.copyOf(articles), System.currentTimeMillis()));
+        }
+        return articles;
+    }
+    
+    public List<NewsArticle> getFallbackNews(String countryName) {
+        return generateMockNews(countryName);
     }
     
     private List<NewsArticle> parseRssFeed(String feedUrl, String countryName) {
         List<NewsArticle> articles = new ArrayList<>();
         
+        RssFetchEvent fetchEvent = new RssFetchEvent();
+        fetchEvent.begin();
+        fetchEvent.feedUrl = feedUrl;
+        fetchEvent.country = countryName;
+        fetchEvent.outcome = "error";
+        
+        RssParseEvent parseEvent = new RssParseEvent();
+        parseEvent.feedUrl = feedUrl;
+        parseEvent.country = countryName;
+        parseEvent.outcome = "error";
+        
         try {
-            Document doc = Jsoup.connect(feedUrl)
+            Connection.Response response = Jsoup.connect(feedUrl)
                 .timeout(10000)
                 .userAgent("Mozilla/5.0 (compatible; GeoInsight/1.0)")
-                .get();
+                .execute();
+            fetchEvent.bytes = response.bodyAsBytes().length;
+            fetchEvent.outcome = "ok";
+            fetchEvent.commit();
+            
+            parseEvent.begin();
+            Document doc = response.parse();
             
             Elements items = doc.select("item");
             
@@ -90,18 +302,11 @@ public class NewsScrapingService {
                         NewsArticle article = new NewsArticle(title, link, "BBC News");
                         article.setDescription(cleanDescription(description));
                         
-                        // parse publication date if available
-                        if (pubDate != null && !pubDate.isEmpty()) {
-                            try {
-                                // simplified date parsing 
-                                article.setPublishedAt(LocalDateTime.now().minusHours(
-                                    Math.abs(pubDate.hashCode()) % 24));
-                            } catch (Exception e) {
-                                article.setPublishedAt(LocalDateTime.now());
-                            }
-                        }
+                        // rss pubDate is rfc 1123 ("Tue, 10 Jun 2025 04:00:00 GMT"); search ranks on it,
+                        // so a missing or malformed date stays unknown rather than made up
+                        article.setPublishedAtMillis(parsePubDate(pubDate));
                         
-                        articles.add(article);
+                        articles.add(ingest(article));
                         
                         if (articles.size() >= 10) break;
                     }
@@ -111,13 +316,53 @@ public class NewsScrapingService {
                 }
             }
             
+            parseEvent.outcome = "ok";
+            
         } catch (Exception e) {
             System.err.println("Error connecting to RSS feed: " + e.getMessage());
+        } finally {
+            // the fetch event is already in when we got as far as parsing
+            if (fetchEvent.outcome.equals("ok")) {
+                parseEvent.articles = articles.size();
+                parseEvent.commit();
+            } else {
+                fetchEvent.commit();
+            }
         }
         
         return articles;
     }
     
+    // add a scraped article to the shared pool, index its country mentions and text;
+    // returns the pooled instance when we've seen the same story before
+    private NewsArticle ingest(NewsArticle article) {
+        int id = articlePool.add(article);
+        if (id >= 0) {
+            for (String country : mentionIndex.index(id, article)) {
+                timeSeriesStore.countArticle(country);
+            }
+            searchIndex.index(id, article);
+            return article;
+        }
+        
+        NewsArticle pooled = articlePool.findByKey(keyOf(article));
+        return pooled != null ? pooled : article;
+    }
+    
+    private long parsePubDate(String pubDate) {
+        if (pubDate == null || pubDate.isBlank()) return NewsArticle.UNKNOWN_TIME;
+        
+        try {
+            return ZonedDateTime.parse(pubDate.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return NewsArticle.UNKNOWN_TIME;
+        }
+    }
+    
+    private String keyOf(NewsArticle article) {
+        return article.getUrl() != null ? article.getUrl() : article.getTitle();
+    }
+    
     private String getElementText(Element parent, String selector) {
         Element element = parent.selectFirst(selector);
         return element != null ? element.text() : null;
@@ -0,0 +1,202 @@
+package com.geopulse.service;
+
+import com.geopulse.model.NewsArticle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * in-memory full text index over pooled article titles and descriptions.
+ * ids come from NewsArticlePool, so the pool's article cap and oldest-first eviction bound this index too.
+ */
+@Service
+public class NewsSearchIndex {
+
+    @Autowired
+    private NewsArticlePool articlePool;
+
+    // term -> (article id -> weighted term frequency)
+    private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+    // article id -> its terms, so eviction can clean up postings
+    private final Map<Integer, Set<String>> termsById = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final double RECENCY_HALF_LIFE_HOURS = 24.0;
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have",
+        "in", "is", "it", "its", "of", "on", "or", "that", "the", "to", "was", "were", "with"
+    );
+
+    public static class SearchHit {
+        private final NewsArticle article;
+        private final double score;
+
+        SearchHit(NewsArticle article, double score) {
+            this.article = article;
+            this.score = score;
+        }
+
+        public NewsArticle getArticle() { return article; }
+        public double getScore() { return score; }
+    }
+
+    @PostConstruct
+    public void init() {
+        articlePool.addEvictionListener(this::remove);
+    }
+
+    public void index(int articleId, NewsArticle article) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String term : tokenize(article.getTitle())) {
+            termFrequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(article.getDescription())) {
+            termFrequencies.merge(term, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), k -> new HashMap<>())
+                    .put(articleId, entry.getValue());
+            }
+            termsById.put(articleId, termFrequencies.keySet());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // drop postings for an article the pool has evicted
+    public void remove(int articleId) {
+        lock.writeLock().lock();
+        try {
+            Set<String> terms = termsById.remove(articleId);
+            if (terms == null) return;
+
+            for (String term : terms) {
+                Map<Integer, Integer> docs = postings.get(term);
+                if (docs != null) {
+                    docs.remove(articleId);
+                    if (docs.isEmpty()) postings.remove(term);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * top matches for a query ranked by tf-idf relevance decayed by article age.
+     * offset/limit page through the ranked hits.
+     */
+    public List<SearchHit> search(String query, int offset, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) return List.of();
+
+        Map<Integer, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            int totalDocs = Math.max(1, termsById.size());
+            for (String term : new HashSet<>(terms)) {
+                Map<Integer, Integer> docs = postings.get(term);
+                if (docs == null) continue;
+
+                double idf = Math.log(1.0 + (double) totalDocs / docs.size());
+                for (Map.Entry<Integer, Integer> doc : docs.entrySet()) {
+                    scores.merge(doc.getKey(), (1.0 + Math.log(doc.getValue())) * idf, Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // bounded min-heap of {score, id} keeps only the hits we need for this page;
+        // ranking reads the publish time column in one pass, articles are built for the page only
+        int[] ids = new int[scores.size()];
+        double[] relevance = new double[scores.size()];
+        int n = 0;
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            ids[n] = entry.getKey();
+            relevance[n++] = entry.getValue();
+        }
+        long[] publishedAt = new long[ids.length];
+        articlePool.readPublishedAt(ids, publishedAt);
+
+        int k = offset + limit;
+        PriorityQueue<double[]> top = new PriorityQueue<>((a, b) -> Double.compare(a[0], b[0]));
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i < ids.length; i++) {
+            int id = ids[i];
+            if (id < 0) continue;
+
+            double score = relevance[i] * recencyBoost(publishedAt[i], now);
+            if (top.size() < k) {
+                top.add(new double[]{score, id});
+            } else if (score > top.peek()[0]) {
+                top.poll();
+                top.add(new double[]{score, id});
+            }
+        }
+
+        List<double[]> ranked = new ArrayList<>(top);
+        ranked.sort((a, b) -> Double.compare(b[0], a[0]));
+
+        // the page's articles in one call, ids evicted since the ranking pass come back as -1
+        int end = Math.min(ranked.size(), offset + limit);
+        int[] pageIds = new int[Math.max(0, end - offset)];
+        for (int i = 0; i < pageIds.length; i++) {
+            pageIds[i] = (int) ranked.get(offset + i)[1];
+        }
+        List<NewsArticle> articles = articlePool.getAll(pageIds, pageIds.length);
+
+        List<SearchHit> hits = new ArrayList<>(articles.size());
+        int next = 0;
+        for (int i = 0; i < pageIds.length; i++) {
+            if (pageIds[i] >= 0) {
+                hits.add(new SearchHit(articles.get(next++), ranked.get(offset + i)[0]));
+            }
+        }
+        return hits;
+    }
+
+    public int getIndexedCount() {
+        lock.readLock().lock();
+        try {
+            return termsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double recencyBoost(long publishedAtMillis, long now) {
+        if (publishedAtMillis == NewsArticle.UNKNOWN_TIME) return 0.5;
+
+        double ageHours = Math.max(0, (now - publishedAtMillis) / 3_600_000.0);
+        // halves every RECENCY_HALF_LIFE_HOURS, never drops relevance to zero
+        return 0.5 + 0.5 * Math.pow(0.5, ageHours / RECENCY_HALF_LIFE_HOURS);
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) return tokens;
+
+        for (String raw : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (raw.length() < 2 || STOP_WORDS.contains(raw)) continue;
+            tokens.add(raw);
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,225 @@
+package com.geopulse.service;
+
+import com.geopulse.model.NewsArticle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class NewsStreamService {
+
+    @Autowired
+    private NewsScrapingService newsScrapingService;
+
+    @Autowired
+    private CountryNewsLog newsLog;
+
+    @Value("${news.stream.max-subscribers-per-country:200}")
+    private int maxSubscribersPerCountry;
+
+    @Value("${news.stream.max-subscribers:2000}")
+    private int maxSubscribers;
+
+    @Value("${news.stream.max-pending-events:16}")
+    private int maxPendingEvents;
+
+    @Value("${news.stream.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    // one channel per country, shared by every subscriber of that country
+    private final Map<String, CountryChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger totalSubscribers = new AtomicInteger();
+
+    // small bounded pool so slow clients can't stall the refresh loop
+    private final ThreadPoolExecutor sendExecutor = new ThreadPoolExecutor(
+        4, 4, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1000));
+
+    private static final int SEEN_URL_LIMIT = 200;
+
+    static class CountryChannel {
+        final String countryName;
+        final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+        // reserved before a subscriber is added, so the per-country cap holds under concurrent subscribes
+        final AtomicInteger subscriberCount = new AtomicInteger();
+        final Set<String> seenUrls = new LinkedHashSet<>();
+        volatile List<NewsArticle> latest = List.of();
+
+        CountryChannel(String countryName) {
+            this.countryName = countryName;
+        }
+    }
+
+    static class Subscriber {
+        final SseEmitter emitter;
+        final AtomicInteger pending = new AtomicInteger();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    /**
+     * registers a new subscriber for a country's news feed.
+     * returns null when the subscriber limits are reached so the caller can reject early.
+     */
+    public SseEmitter subscribe(String countryName) {
+        if (totalSubscribers.incrementAndGet() > maxSubscribers) {
+            totalSubscribers.decrementAndGet();
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        // the subscriber's position in the channel, 0 when the channel was full
+        int[] joinedAs = {0};
+
+        // the add happens inside compute so the refresh loop can't drop the channel in between
+        CountryChannel channel = channels.compute(countryName.toLowerCase(), (k, existing) -> {
+            CountryChannel c = existing != null ? existing : new CountryChannel(countryName);
+            int count = c.subscriberCount.incrementAndGet();
+            if (count > maxSubscribersPerCountry) {
+                c.subscriberCount.decrementAndGet();
+                return existing;
+            }
+            c.subscribers.add(subscriber);
+            joinedAs[0] = count;
+            return c;
+        });
+
+        if (joinedAs[0] == 0) {
+            totalSubscribers.decrementAndGet();
+            return null;
+        }
+
+        Runnable cleanup = () -> removeSubscriber(channel, subscriber);
+        emitter.onCompletion(cleanup);
+        emitter.onTimeout(cleanup);
+        emitter.onError(e -> cleanup.run());
+
+        // give new subscribers the current headlines straight away
+        List<NewsArticle> latest = channel.latest;
+        if (!latest.isEmpty()) {
+            send(channel, subscriber, "snapshot", latest);
+        } else if (joinedAs[0] == 1) {
+            // first viewer of this country, don't make them wait for the next cycle
+            CompletableFuture.runAsync(() -> refreshChannel(channel));
+        }
+
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return totalSubscribers.get();
+    }
+
+    // single shared refresh per subscribed country, no matter how many viewers
+    @Scheduled(fixedDelayString = "${news.stream.refresh-interval-ms:60000}")
+    public void refreshSubscribedCountries() {
+        for (String key : channels.keySet()) {
+            // atomic with subscribe's compute: a channel is only dropped while nobody is joining it
+            CountryChannel channel = channels.computeIfPresent(key, (k, c) -> c.subscribers.isEmpty() ? null : c);
+            if (channel != null) {
+                refreshChannel(channel);
+            }
+        }
+    }
+
+    private void refreshChannel(CountryChannel channel) {
+        try {
+            List<NewsArticle> articles = newsScrapingService.fetchNewsForCountry(channel.countryName);
+            List<NewsArticle> fresh = new ArrayList<>();
+
+            synchronized (channel.seenUrls) {
+                for (NewsArticle article : articles) {
+                    String id = article.getUrl() != null ? article.getUrl() : article.getTitle();
+                    if (channel.seenUrls.add(id)) {
+                        fresh.add(article);
+                    }
+                }
+                trimSeenUrls(channel.seenUrls);
+            }
+
+            channel.latest = articles;
+            // pollers of the delta endpoint see what the stream just found
+            newsLog.append(channel.countryName, articles);
+
+            if (!fresh.isEmpty()) {
+                for (Subscriber subscriber : channel.subscribers) {
+                    send(channel, subscriber, "news", fresh);
+                }
+            }
+
+        } catch (Exception e) {
+            System.err.println("Error refreshing news stream for " + channel.countryName + ": " + e.getMessage());
+        }
+    }
+
+    private void send(CountryChannel channel, Subscriber subscriber, String eventName, List<NewsArticle> articles) {
+        // drop consumers that can't keep up instead of buffering for them
+        if (subscriber.pending.incrementAndGet() > maxPendingEvents) {
+            subscriber.emitter.complete();
+            removeSubscriber(channel, subscriber);
+            return;
+        }
+
+        try {
+            sendExecutor.execute(() -> {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().name(eventName).data(articles));
+                } catch (Exception e) {
+                    subscriber.emitter.completeWithError(e);
+                    removeSubscriber(channel, subscriber);
+                } finally {
+                    subscriber.pending.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            subscriber.pending.decrementAndGet();
+            subscriber.emitter.complete();
+            removeSubscriber(channel, subscriber);
+        }
+    }
+
+    private void removeSubscriber(CountryChannel channel, Subscriber subscriber) {
+        if (channel.subscribers.remove(subscriber)) {
+            channel.subscriberCount.decrementAndGet();
+            totalSubscribers.decrementAndGet();
+        }
+    }
+
+    private void trimSeenUrls(Set<String> seenUrls) {
+        Iterator<String> it = seenUrls.iterator();
+        while (seenUrls.size() > SEEN_URL_LIMIT && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (CountryChannel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                subscriber.emitter.complete();
+            }
+        }
+        sendExecutor.shutdownNow();
+    }
+}
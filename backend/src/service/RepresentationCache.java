@@ -0,0 +1,146 @@
+package com.geopulse.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.geopulse.profiling.SerializationEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * encoded responses in every wire format, built from one serialized tree.
+ * a value is turned into a tree once per version; json, cbor and smile bytes are
+ * written from that tree on first request and reused until the version changes.
+ */
+@Service
+public class RepresentationCache {
+
+    // bump when a field is renamed or removed, additions are backwards compatible
+    public static final String SCHEMA_VERSION = "2";
+
+    public enum Format {
+        JSON(MediaType.APPLICATION_JSON),
+        CBOR(MediaType.parseMediaType("application/cbor")),
+        SMILE(MediaType.parseMediaType("application/x-jackson-smile"));
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        // best supported format for an Accept header, json when nothing else matches
+        public static Format negotiate(String accept) {
+            if (accept == null || accept.isBlank()) return JSON;
+
+            try {
+                // highest quality first, concrete types before wildcards on ties
+                List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+                accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed()
+                    .thenComparing(MediaType::isConcrete, Comparator.reverseOrder()));
+                for (MediaType mediaType : accepted) {
+                    for (Format format : values()) {
+                        if (mediaType.getQualityValue() > 0 && mediaType.includes(format.mediaType)) {
+                            return format;
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                // a malformed header gets the default rather than an error
+            }
+            return JSON;
+        }
+    }
+
+    private static class Entry {
+        final String version;
+        final JsonNode tree;
+        final byte[][] encoded = new byte[Format.values().length][];
+
+        Entry(String version, JsonNode tree) {
+            this.version = version;
+            this.tree = tree;
+        }
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${representation.cache.max-entries:1000}")
+    private int maxEntries;
+
+    private final ObjectMapper cborMapper = new CBORMapper();
+    private final ObjectMapper smileMapper = new SmileMapper();
+
+    // least recently used entries go first
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    // bytes for value in the given format; version must change whenever value's content does,
+    // so value must not serialize anything computed from the clock
+    public byte[] encode(String key, String version, Object value, Format format) throws JsonProcessingException {
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        event.key = key;
+        event.format = format.name().toLowerCase();
+
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+
+        if (entry == null || !entry.version.equals(version)) {
+            // the tree carries the json config (dates, nulls), every format writes from it
+            entry = new Entry(version, objectMapper.valueToTree(value));
+            synchronized (entries) {
+                entries.put(key, entry);
+            }
+        }
+
+        byte[] bytes;
+        synchronized (entry) {
+            bytes = entry.encoded[format.ordinal()];
+            event.cached = bytes != null;
+            if (bytes == null) {
+                bytes = mapperFor(format).writeValueAsBytes(entry.tree);
+                entry.encoded[format.ordinal()] = bytes;
+            }
+        }
+
+        event.bytes = bytes.length;
+        event.commit();
+        return bytes;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private ObjectMapper mapperFor(Format format) {
+        return switch (format) {
+            case JSON -> objectMapper;
+            case CBOR -> cborMapper;
+            case SMILE -> smileMapper;
+        };
+    }
+}
@@ -0,0 +1,725 @@
+package com.geopulse.service;
+
+import com.geopulse.model.CountryInfo;
+import com.geopulse.model.TimeSeriesPoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * append-only time series of per-country metrics.
+ * points are delta + varint encoded in memory and sealed into immutable segment files;
+ * the block that isn't sealed yet is checkpointed to disk every hour so a crash loses at most that hour;
+ * hourly and daily rollups are kept up to date on every append so long ranges never decode raw data,
+ * and are persisted next to the segments so startup only decodes what they don't cover yet.
+ * raw segments, hourly and daily rollups each have their own retention.
+ */
+@Service
+public class TimeSeriesStore {
+
+    public static final String RISK = "risk";
+    public static final String NEWS_VOLUME = "news_volume";
+
+    public enum Resolution { RAW, HOUR, DAY }
+
+    @Value("${timeseries.data-dir:data/timeseries}")
+    private String dataDir;
+
+    @Value("${timeseries.segment-points:256}")
+    private int segmentPoints;
+
+    @Value("${timeseries.raw-retention-days:30}")
+    private int rawRetentionDays;
+
+    @Value("${timeseries.hourly-retention-days:90}")
+    private int hourlyRetentionDays;
+
+    @Value("${timeseries.daily-retention-days:730}")
+    private int dailyRetentionDays;
+
+    private static final int SEGMENT_MAGIC = 0x47505453; // "GPTS"
+    private static final int ROLLUP_MAGIC = 0x47505255; // "GPRU"
+    private static final String CHECKPOINT_FILE = "active.ckpt";
+    private static final String ROLLUP_FILE = "rollups.bin";
+    private static final Pattern SEGMENT_NAME = Pattern.compile("(\\d+)-(\\d+)(_\\d+)?\\.seg");
+    private static final double VALUE_SCALE = 1000.0;
+    private static final long HOUR_MS = Duration.ofHours(1).toMillis();
+    private static final long DAY_MS = Duration.ofDays(1).toMillis();
+
+    private final Map<String, Series> seriesByKey = new ConcurrentHashMap<>();
+    private final Map<String, String> regionByCountry = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> newsCounters = new ConcurrentHashMap<>();
+
+    static class Rollup {
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        double sum;
+        long count;
+
+        void add(double value) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            sum += value;
+            count++;
+        }
+
+        void merge(Rollup other) {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+            sum += other.sum;
+            count += other.count;
+        }
+    }
+
+    static class Segment {
+        final long firstTs;
+        final long lastTs;
+        final Path file;
+
+        Segment(long firstTs, long lastTs, Path file) {
+            this.firstTs = firstTs;
+            this.lastTs = lastTs;
+            this.file = file;
+        }
+    }
+
+    class Series {
+        final Path dir;
+        final List<Segment> segments = new ArrayList<>();
+        final NavigableMap<Long, Rollup> hourly = new TreeMap<>();
+        final NavigableMap<Long, Rollup> daily = new TreeMap<>();
+
+        ByteArrayOutputStream active = new ByteArrayOutputStream();
+        int activeCount;
+        int checkpointedCount;
+        long activeFirstTs;
+        long lastTs;
+        long lastScaled;
+        int pointsAtLastTs;
+
+        // how far the persisted rollups reach: every point before coveredTs and the first coveredAtTs at it
+        long coveredTs = Long.MIN_VALUE;
+        int coveredAtTs;
+        int skipAtCoveredTs;
+
+        Series(Path dir) {
+            this.dir = dir;
+        }
+
+        void addToRollups(long ts, double value) {
+            hourly.computeIfAbsent(ts - ts % HOUR_MS, k -> new Rollup()).add(value);
+            daily.computeIfAbsent(ts - ts % DAY_MS, k -> new Rollup()).add(value);
+        }
+
+        // a point read back at startup only counts if the persisted rollups don't have it yet
+        void replayIntoRollups(long ts, long scaled) {
+            if (ts < coveredTs) return;
+            if (ts == coveredTs && skipAtCoveredTs > 0) {
+                skipAtCoveredTs--;
+                return;
+            }
+            addToRollups(ts, scaled / VALUE_SCALE);
+        }
+    }
+
+    @PostConstruct
+    public void loadExisting() {
+        Path root = Paths.get(dataDir);
+        if (!Files.isDirectory(root)) return;
+
+        Path regions = root.resolve("regions.properties");
+        if (Files.exists(regions)) {
+            try (Reader reader = Files.newBufferedReader(regions)) {
+                Properties props = new Properties();
+                props.load(reader);
+                props.forEach((k, v) -> regionByCountry.put(k.toString(), v.toString()));
+            } catch (IOException e) {
+                System.err.println("Error loading time series regions: " + e.getMessage());
+            }
+        }
+
+        // segment ranges come from the file names, only what the persisted rollups don't cover is decoded
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path dir : dirs) {
+                Series series = new Series(dir);
+                loadRollups(series);
+
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.seg")) {
+                    for (Path file : files) {
+                        Matcher name = SEGMENT_NAME.matcher(file.getFileName().toString());
+                        if (name.matches()) {
+                            series.segments.add(new Segment(Long.parseLong(name.group(1)),
+                                Long.parseLong(name.group(2)), file));
+                            continue;
+                        }
+                        try {
+                            List<long[]> points = readSegment(file);
+                            if (!points.isEmpty()) {
+                                series.segments.add(new Segment(points.get(0)[0],
+                                    points.get(points.size() - 1)[0], file));
+                            }
+                        } catch (IOException e) {
+                            System.err.println("Skipping unreadable time series segment " + file + ": " + e.getMessage());
+                        }
+                    }
+                }
+                series.segments.sort((a, b) -> a.firstTs != b.firstTs
+                    ? Long.compare(a.firstTs, b.firstTs) : Long.compare(a.lastTs, b.lastTs));
+
+                boolean replayed = false;
+                for (Segment segment : series.segments) {
+                    if (segment.lastTs < series.coveredTs) continue;
+                    try {
+                        for (long[] point : readSegment(segment.file)) {
+                            series.pointsAtLastTs = point[0] == series.lastTs ? series.pointsAtLastTs + 1 : 1;
+                            series.lastTs = point[0];
+                            series.lastScaled = point[1];
+                            series.replayIntoRollups(point[0], point[1]);
+                        }
+                        replayed = true;
+                    } catch (IOException e) {
+                        System.err.println("Skipping unreadable time series segment " + segment.file + ": " + e.getMessage());
+                    }
+                }
+                // everything before coveredTs is already in the rollups, the clock can't go back past it
+                if (series.lastTs < series.coveredTs) {
+                    series.lastTs = series.coveredTs;
+                    series.pointsAtLastTs = series.coveredAtTs;
+                }
+
+                replayed |= restoreCheckpoint(series);
+                if (replayed) {
+                    saveRollups(series);
+                }
+                seriesByKey.put(dir.getFileName().toString(), series);
+            }
+        } catch (IOException e) {
+            System.err.println("Error loading time series data: " + e.getMessage());
+        }
+
+        applyRetention(System.currentTimeMillis());
+    }
+
+    // snapshot of a country's risk score, called whenever fresh country data comes in
+    public void recordRisk(CountryInfo info) {
+        if (info == null || info.getGeopoliticalRiskIndex() == null) return;
+
+        String country = normalize(info.getCountryName());
+        if (info.getRegion() != null && !info.getRegion().equals(regionByCountry.get(country))) {
+            regionByCountry.put(country, info.getRegion());
+            saveRegions();
+        }
+
+        append(country, RISK, System.currentTimeMillis(), info.getGeopoliticalRiskIndex());
+    }
+
+    // one more ingested article mentions this country, flushed as a count per interval
+    public void countArticle(String countryName) {
+        newsCounters.computeIfAbsent(normalize(countryName), k -> new AtomicLong()).incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${timeseries.news-interval-ms:3600000}",
+               initialDelayString = "${timeseries.news-interval-ms:3600000}")
+    public void flushNewsVolume() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, AtomicLong> entry : newsCounters.entrySet()) {
+            append(entry.getKey(), NEWS_VOLUME, now, entry.getValue().getAndSet(0));
+        }
+
+        applyRetention(now);
+    }
+
+    private void append(String country, String metric, long timestamp, double value) {
+        Series series = seriesByKey.computeIfAbsent(seriesKey(country, metric),
+            key -> new Series(Paths.get(dataDir, key)));
+
+        synchronized (series) {
+            // append-only: never go back in time within a series
+            long ts = Math.max(timestamp, series.lastTs);
+            writePoint(series, ts, Math.round(value * VALUE_SCALE));
+            series.addToRollups(ts, value);
+
+            if (series.activeCount >= segmentPoints) {
+                seal(series);
+            }
+        }
+    }
+
+    private void writePoint(Series series, long ts, long scaled) {
+        if (series.activeCount == 0) {
+            series.activeFirstTs = ts;
+            writeVarLong(series.active, ts);
+            writeVarLong(series.active, zigZag(scaled));
+        } else {
+            writeVarLong(series.active, ts - series.lastTs);
+            writeVarLong(series.active, zigZag(scaled - series.lastScaled));
+        }
+
+        series.activeCount++;
+        series.pointsAtLastTs = ts == series.lastTs ? series.pointsAtLastTs + 1 : 1;
+        series.lastTs = ts;
+        series.lastScaled = scaled;
+    }
+
+    public List<TimeSeriesPoint> query(String country, String metric, Instant from, Instant to,
+                                       Resolution resolution) {
+        Series series = seriesByKey.get(seriesKey(normalize(country), metric));
+        if (series == null) return List.of();
+
+        long fromMs = from.toEpochMilli();
+        long toMs = to.toEpochMilli();
+
+        synchronized (series) {
+            if (resolution == Resolution.RAW) {
+                return readRaw(series, fromMs, toMs);
+            }
+
+            NavigableMap<Long, Rollup> rollups = resolution == Resolution.HOUR ? series.hourly : series.daily;
+            return toPoints(rollups.subMap(fromMs - fromMs % bucketMs(resolution), true, toMs, true), metric);
+        }
+    }
+
+    // merges every country's rollups in the region: risk is the average, news volume the total
+    public List<TimeSeriesPoint> queryRegion(String region, String metric, Instant from, Instant to,
+                                             Resolution resolution) {
+        if (resolution == Resolution.RAW) {
+            resolution = Resolution.HOUR;
+        }
+
+        long fromMs = from.toEpochMilli();
+        long toMs = to.toEpochMilli();
+        NavigableMap<Long, Rollup> merged = new TreeMap<>();
+
+        for (Map.Entry<String, String> entry : regionByCountry.entrySet()) {
+            if (!entry.getValue().equalsIgnoreCase(region)) continue;
+
+            Series series = seriesByKey.get(seriesKey(entry.getKey(), metric));
+            if (series == null) continue;
+
+            synchronized (series) {
+                NavigableMap<Long, Rollup> rollups = resolution == Resolution.HOUR ? series.hourly : series.daily;
+                for (Map.Entry<Long, Rollup> bucket : rollups.subMap(
+                        fromMs - fromMs % bucketMs(resolution), true, toMs, true).entrySet()) {
+                    merged.computeIfAbsent(bucket.getKey(), k -> new Rollup()).merge(bucket.getValue());
+                }
+            }
+        }
+
+        return toPoints(merged, metric);
+    }
+
+    // a slow series takes days to fill a segment, so its open block is written aside every hour
+    @Scheduled(fixedDelayString = "${timeseries.checkpoint-interval-ms:3600000}",
+               initialDelayString = "${timeseries.checkpoint-interval-ms:3600000}")
+    public void checkpointAll() {
+        for (Series series : seriesByKey.values()) {
+            synchronized (series) {
+                checkpoint(series);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void sealAll() {
+        for (Series series : seriesByKey.values()) {
+            synchronized (series) {
+                seal(series);
+            }
+        }
+    }
+
+    private void seal(Series series) {
+        if (series.activeCount == 0) return;
+
+        try {
+            Files.createDirectories(series.dir);
+            String name = series.activeFirstTs + "-" + series.lastTs;
+            Path file = series.dir.resolve(name + ".seg");
+            for (int n = 1; Files.exists(file); n++) {
+                file = series.dir.resolve(name + "_" + n + ".seg");
+            }
+
+            try (OutputStream out = Files.newOutputStream(file,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteArrayOutputStream header = new ByteArrayOutputStream();
+                writeInt(header, SEGMENT_MAGIC);
+                writeVarLong(header, series.activeCount);
+                header.writeTo(out);
+                series.active.writeTo(out);
+            }
+
+            series.segments.add(new Segment(series.activeFirstTs, series.lastTs, file));
+            saveRollups(series);
+            Files.deleteIfExists(series.dir.resolve(CHECKPOINT_FILE));
+
+        } catch (IOException e) {
+            // keep the points in memory, we'll try again when the next one arrives
+            System.err.println("Error sealing time series segment in " + series.dir + ": " + e.getMessage());
+            return;
+        }
+
+        series.active = new ByteArrayOutputStream();
+        series.activeCount = 0;
+        series.checkpointedCount = 0;
+    }
+
+    // same layout as a segment, replaced atomically so a crash mid-write keeps the previous one
+    private void checkpoint(Series series) {
+        if (series.activeCount == 0 || series.activeCount == series.checkpointedCount) return;
+
+        try {
+            Files.createDirectories(series.dir);
+            Path file = series.dir.resolve(CHECKPOINT_FILE);
+            Path temp = series.dir.resolve(CHECKPOINT_FILE + ".tmp");
+
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                ByteArrayOutputStream header = new ByteArrayOutputStream();
+                writeInt(header, SEGMENT_MAGIC);
+                writeVarLong(header, series.activeCount);
+                header.writeTo(out);
+                series.active.writeTo(out);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            series.checkpointedCount = series.activeCount;
+            saveRollups(series);
+
+        } catch (IOException e) {
+            System.err.println("Error checkpointing time series block in " + series.dir + ": " + e.getMessage());
+        }
+    }
+
+    // the checkpointed block becomes the active one again, unless it was sealed before the crash
+    private boolean restoreCheckpoint(Series series) {
+        Path file = series.dir.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) return false;
+
+        List<long[]> points;
+        try {
+            points = readSegment(file);
+        } catch (IOException e) {
+            System.err.println("Skipping unreadable time series checkpoint " + file + ": " + e.getMessage());
+            return false;
+        }
+        if (points.isEmpty()) return false;
+
+        long firstTs = points.get(0)[0];
+        if (series.segments.stream().anyMatch(segment -> segment.firstTs == firstTs)) return false;
+
+        for (long[] point : points) {
+            long ts = Math.max(point[0], series.lastTs);
+            series.replayIntoRollups(ts, point[1]);
+            writePoint(series, ts, point[1]);
+        }
+        series.checkpointedCount = series.activeCount;
+        return true;
+    }
+
+    private void loadRollups(Series series) {
+        Path file = series.dir.resolve(ROLLUP_FILE);
+        if (!Files.exists(file)) return;
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            if (readInt(in) != ROLLUP_MAGIC) {
+                throw new IOException("not a time series rollup file");
+            }
+            long coveredTs = unZigZag(readVarLong(in));
+            int coveredAtTs = (int) readVarLong(in);
+            NavigableMap<Long, Rollup> hourly = readRollups(in);
+            NavigableMap<Long, Rollup> daily = readRollups(in);
+
+            series.hourly.putAll(hourly);
+            series.daily.putAll(daily);
+            series.coveredTs = coveredTs;
+            series.coveredAtTs = coveredAtTs;
+            series.skipAtCoveredTs = coveredAtTs;
+        } catch (IOException e) {
+            // without them every segment gets decoded, same as before rollups were persisted
+            System.err.println("Rebuilding unreadable time series rollups " + file + ": " + e.getMessage());
+        }
+    }
+
+    // written whenever the points they cover are on disk, replaced atomically like the checkpoint
+    private void saveRollups(Series series) {
+        try {
+            Files.createDirectories(series.dir);
+            Path temp = series.dir.resolve(ROLLUP_FILE + ".tmp");
+
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                writeInt(out, ROLLUP_MAGIC);
+                writeVarLong(out, zigZag(series.lastTs));
+                writeVarLong(out, series.pointsAtLastTs);
+                writeRollups(out, series.hourly);
+                writeRollups(out, series.daily);
+            }
+            Files.move(temp, series.dir.resolve(ROLLUP_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        } catch (IOException e) {
+            System.err.println("Error saving time series rollups in " + series.dir + ": " + e.getMessage());
+        }
+    }
+
+    private void writeRollups(OutputStream out, NavigableMap<Long, Rollup> rollups) {
+        writeVarLong(out, rollups.size());
+        long previous = 0;
+        for (Map.Entry<Long, Rollup> entry : rollups.entrySet()) {
+            Rollup r = entry.getValue();
+            writeVarLong(out, entry.getKey() - previous);
+            writeLong(out, Double.doubleToLongBits(r.min));
+            writeLong(out, Double.doubleToLongBits(r.max));
+            writeLong(out, Double.doubleToLongBits(r.sum));
+            writeVarLong(out, r.count);
+            previous = entry.getKey();
+        }
+    }
+
+    private NavigableMap<Long, Rollup> readRollups(InputStream in) throws IOException {
+        NavigableMap<Long, Rollup> rollups = new TreeMap<>();
+        long size = readVarLong(in);
+        long bucket = 0;
+        for (long i = 0; i < size; i++) {
+            bucket += readVarLong(in);
+            Rollup r = new Rollup();
+            r.min = Double.longBitsToDouble(readLong(in));
+            r.max = Double.longBitsToDouble(readLong(in));
+            r.sum = Double.longBitsToDouble(readLong(in));
+            r.count = readVarLong(in);
+            rollups.put(bucket, r);
+        }
+        return rollups;
+    }
+
+    private List<TimeSeriesPoint> readRaw(Series series, long fromMs, long toMs) {
+        List<TimeSeriesPoint> points = new ArrayList<>();
+
+        for (Segment segment : series.segments) {
+            if (segment.lastTs < fromMs || segment.firstTs > toMs) continue;
+
+            try {
+                addInRange(points, readSegment(segment.file), fromMs, toMs);
+            } catch (IOException e) {
+                System.err.println("Error reading time series segment " + segment.file + ": " + e.getMessage());
+            }
+        }
+
+        if (series.activeCount > 0 && series.lastTs >= fromMs) {
+            try {
+                addInRange(points, decode(new ByteArrayInputStream(series.active.toByteArray()),
+                    series.activeCount), fromMs, toMs);
+            } catch (IOException e) {
+                System.err.println("Error decoding active time series block: " + e.getMessage());
+            }
+        }
+
+        return points;
+    }
+
+    private void addInRange(List<TimeSeriesPoint> points, List<long[]> decoded, long fromMs, long toMs) {
+        for (long[] point : decoded) {
+            if (point[0] < fromMs || point[0] > toMs) continue;
+            double value = point[1] / VALUE_SCALE;
+            points.add(new TimeSeriesPoint(Instant.ofEpochMilli(point[0]), value, value, value, value, 1));
+        }
+    }
+
+    private List<long[]> readSegment(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            if (readInt(in) != SEGMENT_MAGIC) {
+                throw new IOException("not a time series segment");
+            }
+            int count = (int) readVarLong(in);
+            return decode(in, count);
+        }
+    }
+
+    private List<long[]> decode(InputStream in, int count) throws IOException {
+        List<long[]> points = new ArrayList<>(count);
+        long ts = 0;
+        long scaled = 0;
+
+        for (int i = 0; i < count; i++) {
+            long tsPart = readVarLong(in);
+            long valuePart = unZigZag(readVarLong(in));
+            ts = i == 0 ? tsPart : ts + tsPart;
+            scaled = i == 0 ? valuePart : scaled + valuePart;
+            points.add(new long[]{ts, scaled});
+        }
+
+        return points;
+    }
+
+    // news volume is a count per interval, so a bucket's value is its total rather than its average
+    private List<TimeSeriesPoint> toPoints(Map<Long, Rollup> rollups, String metric) {
+        boolean total = NEWS_VOLUME.equals(metric);
+        List<TimeSeriesPoint> points = new ArrayList<>(rollups.size());
+        for (Map.Entry<Long, Rollup> entry : rollups.entrySet()) {
+            Rollup r = entry.getValue();
+            points.add(new TimeSeriesPoint(Instant.ofEpochMilli(entry.getKey()),
+                total ? r.sum : r.sum / r.count, r.min, r.max, r.sum, r.count));
+        }
+        return points;
+    }
+
+    // old raw segments are deleted once their hourly and daily rollups are all that's queried
+    private void applyRetention(long now) {
+        long rawCutoff = now - Duration.ofDays(rawRetentionDays).toMillis();
+        long hourlyCutoff = now - Duration.ofDays(hourlyRetentionDays).toMillis();
+        long dailyCutoff = now - Duration.ofDays(dailyRetentionDays).toMillis();
+
+        for (Series series : seriesByKey.values()) {
+            synchronized (series) {
+                series.segments.removeIf(segment -> {
+                    if (segment.lastTs >= rawCutoff) return false;
+                    try {
+                        Files.deleteIfExists(segment.file);
+                        return true;
+                    } catch (IOException e) {
+                        System.err.println("Error deleting time series segment " + segment.file + ": " + e.getMessage());
+                        return false;
+                    }
+                });
+
+                NavigableMap<Long, Rollup> oldHourly = series.hourly.headMap(hourlyCutoff, false);
+                NavigableMap<Long, Rollup> oldDaily = series.daily.headMap(dailyCutoff, false);
+                if (oldHourly.isEmpty() && oldDaily.isEmpty()) continue;
+                oldHourly.clear();
+                oldDaily.clear();
+
+                // the rollup file must not get ahead of the points that are on disk
+                if (series.activeCount == series.checkpointedCount) {
+                    saveRollups(series);
+                } else {
+                    checkpoint(series);
+                }
+            }
+        }
+    }
+
+    private void saveRegions() {
+        try {
+            Path root = Paths.get(dataDir);
+            Files.createDirectories(root);
+            Properties props = new Properties();
+            props.putAll(regionByCountry);
+            try (Writer writer = Files.newBufferedWriter(root.resolve("regions.properties"))) {
+                props.store(writer, "country -> region for time series rollups");
+            }
+        } catch (IOException e) {
+            System.err.println("Error saving time series regions: " + e.getMessage());
+        }
+    }
+
+    private long bucketMs(Resolution resolution) {
+        return resolution == Resolution.HOUR ? HOUR_MS : DAY_MS;
+    }
+
+    private String seriesKey(String country, String metric) {
+        return country + "__" + metric;
+    }
+
+    // safe as a directory name and stable across spellings like "United States" / "united states"
+    private String normalize(String countryName) {
+        return countryName.trim().toLowerCase().replaceAll("[^a-z0-9]+", "_");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(OutputStream out, long value) {
+        try {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new IOException("truncated time series segment");
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+        }
+        throw new IOException("malformed varint in time series segment");
+    }
+
+    private static void writeInt(OutputStream out, int value) {
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            writeByte(out, value >>> shift);
+        }
+    }
+
+    private static void writeLong(OutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            writeByte(out, (int) (value >>> shift));
+        }
+    }
+
+    private static void writeByte(OutputStream out, int value) {
+        try {
+            out.write(value & 0xFF);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int readInt(InputStream in) throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int b = in.read();
+            if (b < 0) throw new IOException("truncated time series segment");
+            value = (value << 8) | b;
+        }
+        return value;
+    }
+
+    private static long readLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            int b = in.read();
+            if (b < 0) throw new IOException("truncated time series rollups");
+            value = (value << 8) | b;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,129 @@
+package com.geopulse.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CountMinSketchTest {
+
+    private static final int WIDTH = 512;
+    private static final int DEPTH = 4;
+
+    // skewed stream over a few thousand keys, so hot keys share cells with a long tail
+    private static Map<String, Long> fill(CountMinSketch sketch, long seed, int adds) {
+        Random random = new Random(seed);
+        Map<String, Long> truth = new HashMap<>();
+        for (int i = 0; i < adds; i++) {
+            String key = "key-" + (int) Math.abs(random.nextGaussian() * 1500);
+            truth.merge(key, 1L, Long::sum);
+            sketch.add(key);
+        }
+        return truth;
+    }
+
+    @Test
+    void neverUnderestimates() {
+        CountMinSketch sketch = new CountMinSketch(WIDTH, DEPTH);
+        Map<String, Long> truth = fill(sketch, 1, 100_000);
+
+        for (Map.Entry<String, Long> entry : truth.entrySet()) {
+            assertTrue(sketch.estimate(entry.getKey()) >= entry.getValue(), entry.getKey());
+        }
+        assertEquals(100_000, sketch.getTotal());
+    }
+
+    @Test
+    void overestimatesStayWithinTheErrorBound() {
+        CountMinSketch sketch = new CountMinSketch(WIDTH, DEPTH);
+        Map<String, Long> truth = fill(sketch, 2, 100_000);
+
+        // e/width of the total per key, failing with probability e^-depth (under 2%)
+        long bound = (long) Math.ceil(Math.E * sketch.getTotal() / WIDTH);
+        long over = truth.entrySet().stream()
+            .filter(entry -> sketch.estimate(entry.getKey()) - entry.getValue() > bound)
+            .count();
+        assertTrue(over <= truth.size() * 0.02, over + " of " + truth.size() + " keys over " + bound);
+    }
+
+    @Test
+    void unseenKeysEstimateWithinTheBoundToo() {
+        CountMinSketch sketch = new CountMinSketch(WIDTH, DEPTH);
+        fill(sketch, 3, 50_000);
+
+        long bound = (long) Math.ceil(Math.E * sketch.getTotal() / WIDTH);
+        long over = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (sketch.estimate("unseen-" + i) > bound) over++;
+        }
+        assertTrue(over <= 20, over + " unseen keys over " + bound);
+    }
+
+    @Test
+    void keysWithTheSameStringHashCodeDoNotShareEveryRow() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertNotEquals(CountMinSketch.hash64("Aa"), CountMinSketch.hash64("BB"));
+
+        CountMinSketch sketch = new CountMinSketch(WIDTH, DEPTH);
+        for (int i = 0; i < 100; i++) {
+            sketch.add("Aa");
+        }
+        assertEquals(100, sketch.estimate("Aa"));
+        assertEquals(0, sketch.estimate("BB"));
+    }
+
+    @Test
+    void countsAreExactWithoutCollisions() {
+        CountMinSketch sketch = new CountMinSketch(WIDTH, DEPTH);
+        for (int i = 1; i <= 5; i++) {
+            assertEquals(i, sketch.add("germany"));
+        }
+        sketch.add("france");
+
+        assertEquals(5, sketch.estimate("germany"));
+        assertEquals(1, sketch.estimate("france"));
+    }
+
+    @Test
+    void halvingAgesEveryCount() {
+        CountMinSketch sketch = new CountMinSketch(WIDTH, DEPTH);
+        for (int i = 0; i < 9; i++) {
+            sketch.add("germany");
+        }
+        sketch.halve();
+
+        assertEquals(4, sketch.estimate("germany"));
+        assertEquals(4, sketch.getTotal());
+    }
+
+    @Test
+    void roundTripsThroughItsFileFormat() throws IOException {
+        CountMinSketch sketch = new CountMinSketch(WIDTH, DEPTH);
+        Map<String, Long> truth = fill(sketch, 4, 10_000);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        sketch.writeTo(new DataOutputStream(bytes));
+
+        CountMinSketch restored = new CountMinSketch(WIDTH, DEPTH);
+        assertTrue(restored.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+        assertEquals(sketch.getTotal(), restored.getTotal());
+        for (String key : truth.keySet()) {
+            assertEquals(sketch.estimate(key), restored.estimate(key));
+        }
+
+        CountMinSketch otherShape = new CountMinSketch(WIDTH * 2, DEPTH);
+        assertFalse(otherShape.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+        assertEquals(0, otherShape.getTotal());
+    }
+}
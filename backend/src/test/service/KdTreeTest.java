@@ -0,0 +1,107 @@
+package com.geopulse.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KdTreeTest {
+
+    private static double[][] randomPoints(Random random, int count, int dims) {
+        double[][] points = new double[count][dims];
+        for (double[] point : points) {
+            for (int d = 0; d < dims; d++) {
+                // coarse grid so ties on an axis and duplicate points show up too
+                point[d] = Math.round(random.nextDouble() * 50) / 2.0;
+            }
+        }
+        return points;
+    }
+
+    private static double squaredDistance(double[] a, double[] b) {
+        double sum = 0;
+        for (int d = 0; d < a.length; d++) {
+            sum += (a[d] - b[d]) * (a[d] - b[d]);
+        }
+        return sum;
+    }
+
+    private static List<Double> bruteForceDistances(double[][] points, double[] query, int n) {
+        return IntStream.range(0, points.length)
+            .mapToObj(i -> squaredDistance(points[i], query))
+            .sorted()
+            .limit(n)
+            .toList();
+    }
+
+    @Test
+    void nearestMatchesBruteForce() {
+        Random random = new Random(42);
+
+        for (int dims = 1; dims <= 4; dims++) {
+            double[][] points = randomPoints(random, 500, dims);
+            KdTree tree = new KdTree(points);
+
+            for (int q = 0; q < 200; q++) {
+                double[] query = randomPoints(random, 1, dims)[0];
+                int n = 1 + random.nextInt(10);
+
+                List<Integer> nearest = tree.nearest(query, n);
+                // compare distances, not indexes: equally distant points may come back in either order
+                List<Double> distances = nearest.stream().map(i -> squaredDistance(points[i], query)).toList();
+                assertEquals(bruteForceDistances(points, query, n), distances);
+                assertEquals(n, new HashSet<>(nearest).size());
+            }
+        }
+    }
+
+    @Test
+    void nearestReturnsEveryPointWhenAskedForMore() {
+        double[][] points = {{0, 0}, {3, 4}, {1, 1}};
+        KdTree tree = new KdTree(points);
+
+        assertEquals(List.of(1, 2, 0), tree.nearest(new double[]{3, 3}, 10));
+        assertEquals(List.of(0), tree.nearest(new double[]{-1, -1}, 1));
+        assertTrue(tree.nearest(new double[]{0, 0}, 0).isEmpty());
+    }
+
+    @Test
+    void emptyTreeFindsNothing() {
+        KdTree tree = new KdTree(new double[0][]);
+
+        assertTrue(tree.nearest(new double[]{1, 2}, 3).isEmpty());
+        assertTrue(tree.range(new double[]{0, 0}, new double[]{10, 10}).isEmpty());
+    }
+
+    @Test
+    void rangeMatchesBruteForce() {
+        Random random = new Random(7);
+        double[][] points = randomPoints(random, 1000, 2);
+        KdTree tree = new KdTree(points);
+
+        for (int q = 0; q < 200; q++) {
+            double[] a = randomPoints(random, 1, 2)[0];
+            double[] b = randomPoints(random, 1, 2)[0];
+            double[] min = {Math.min(a[0], b[0]), Math.min(a[1], b[1])};
+            double[] max = {Math.max(a[0], b[0]), Math.max(a[1], b[1])};
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < points.length; i++) {
+                if (points[i][0] >= min[0] && points[i][0] <= max[0]
+                        && points[i][1] >= min[1] && points[i][1] <= max[1]) {
+                    expected.add(i);
+                }
+            }
+
+            List<Integer> found = new ArrayList<>(tree.range(min, max));
+            found.sort(null);
+            assertEquals(expected, found);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.geopulse.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultiPatternMatcherTest {
+
+    private final MultiPatternMatcher<String> matcher = new MultiPatternMatcher<>(patterns());
+
+    private static Map<String, String> patterns() {
+        Map<String, String> patterns = new LinkedHashMap<>();
+        patterns.put("sudan", "Sudan");
+        patterns.put("south sudan", "South Sudan");
+        patterns.put("niger", "Niger");
+        patterns.put("nigeria", "Nigeria");
+        patterns.put("oman", "Oman");
+        patterns.put("india", "India");
+        patterns.put("new delhi", "India");
+        return patterns;
+    }
+
+    @Test
+    void findsEveryPatternInOnePass() {
+        assertEquals(Set.of("Sudan", "Oman", "Niger"),
+            matcher.findAll("Talks between Sudan and Oman stalled, Niger said."));
+    }
+
+    @Test
+    void matchesCaseInsensitively() {
+        assertEquals(Set.of("Nigeria"), matcher.findAll("NIGERIA votes today"));
+    }
+
+    @Test
+    void onlyMatchesWholeWords() {
+        // "oman" inside "woman" and "romance", "niger" as the prefix of "nigerian"
+        assertTrue(matcher.findAll("a woman's romance with nigerians").isEmpty());
+    }
+
+    @Test
+    void longerMatchWinsOverOneNestedInIt() {
+        assertEquals(Set.of("South Sudan"), matcher.findAll("Fighting in South Sudan continues"));
+        assertEquals(Set.of("Nigeria"), matcher.findAll("nigeria"));
+    }
+
+    @Test
+    void nestedNameStillCountsWhenItAlsoAppearsOnItsOwn() {
+        assertEquals(Set.of("South Sudan", "Sudan"),
+            matcher.findAll("South Sudan and Sudan signed the deal"));
+    }
+
+    @Test
+    void followsFailureLinksAcrossPartialMatches() {
+        // "south sud" is a dead end for "south sudan", "sudan" must still be found right after it
+        assertEquals(Set.of("Sudan"), matcher.findAll("south sud sudan"));
+        assertEquals(Set.of("India"), matcher.findAll("new new delhi"));
+    }
+
+    @Test
+    void valuesAreReportedOnce() {
+        assertEquals(Set.of("India"), matcher.findAll("India's capital New Delhi; india again"));
+    }
+
+    @Test
+    void emptyTextFindsNothing() {
+        assertTrue(matcher.findAll("").isEmpty());
+        assertTrue(matcher.findAll(null).isEmpty());
+    }
+}
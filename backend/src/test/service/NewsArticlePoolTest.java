@@ -0,0 +1,155 @@
+package com.geopulse.service;
+
+import com.geopulse.model.NewsArticle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class NewsArticlePoolTest {
+
+    private NewsArticlePool pool;
+    private final List<Integer> evicted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        pool = new NewsArticlePool();
+        ReflectionTestUtils.setField(pool, "maxArticles", 3);
+        pool.init();
+        pool.addEvictionListener(evicted::add);
+    }
+
+    private static NewsArticle article(int n, String source) {
+        NewsArticle article = new NewsArticle("title " + n, "https://example.com/" + n, source);
+        article.setDescription("description " + n);
+        article.setCategory(n % 2 == 0 ? "politics" : "economy");
+        article.setPublishedAtMillis(1_700_000_000_000L + n);
+        return article;
+    }
+
+    @Test
+    void articlesRoundTripThroughTheColumns() {
+        int id = pool.add(article(7, "Reuters"));
+
+        NewsArticle stored = pool.get(id);
+        assertEquals("title 7", stored.getTitle());
+        assertEquals("description 7", stored.getDescription());
+        assertEquals("https://example.com/7", stored.getUrl());
+        assertEquals("Reuters", stored.getSource());
+        assertEquals("economy", stored.getCategory());
+        assertEquals(1_700_000_000_007L, stored.getPublishedAtMillis());
+    }
+
+    @Test
+    void missingSourceCategoryAndTimeStayMissing() {
+        NewsArticle bare = new NewsArticle();
+        bare.setTitle("bare");
+        bare.setUrl("https://example.com/bare");
+        NewsArticle stored = pool.get(pool.add(bare));
+
+        assertNull(stored.getSource());
+        assertNull(stored.getCategory());
+        assertEquals(NewsArticle.UNKNOWN_TIME, stored.getPublishedAtMillis());
+        assertEquals(0, pool.getDistinctSources());
+    }
+
+    @Test
+    void duplicatesAreRejectedByUrlOrTitle() {
+        assertEquals(0, pool.add(article(1, "Reuters")));
+        assertEquals(-1, pool.add(article(1, "AP")));
+
+        NewsArticle noUrl = new NewsArticle("same headline", null, "AP");
+        assertEquals(1, pool.add(noUrl));
+        assertEquals(-1, pool.add(new NewsArticle("same headline", null, "BBC")));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    void ringWrapsAroundEvictingTheOldestFirst() {
+        for (int n = 0; n < 5; n++) {
+            assertEquals(n, pool.add(article(n, "Reuters")));
+        }
+
+        assertEquals(List.of(0, 1), evicted);
+        assertNull(pool.get(0));
+        assertNull(pool.get(1));
+        assertEquals("title 2", pool.get(2).getTitle());
+        assertEquals("title 4", pool.get(4).getTitle());
+        assertEquals(3, pool.size());
+
+        // an evicted url is free again and gets a fresh id in the next slot
+        assertNull(pool.findByKey("https://example.com/0"));
+        assertEquals(5, pool.add(article(0, "Reuters")));
+        assertEquals(List.of(0, 1, 2), evicted);
+        assertEquals("title 0", pool.findByKey("https://example.com/0").getTitle());
+    }
+
+    @Test
+    void idsFromAnEarlierLapDoNotResolveToTheirSlotsNewArticle() {
+        for (int n = 0; n < 4; n++) {
+            pool.add(article(n, "Reuters"));
+        }
+
+        // id 0 and id 3 share slot 0
+        assertNull(pool.get(0));
+        assertEquals("title 3", pool.get(3).getTitle());
+        assertNull(pool.get(-1));
+    }
+
+    @Test
+    void bulkReadsMarkEvictedIds() {
+        for (int n = 0; n < 5; n++) {
+            pool.add(article(n, "Reuters"));
+        }
+
+        int[] ids = {4, 0, 2, 1, 3};
+        List<NewsArticle> articles = pool.getAll(ids, 2);
+        assertEquals(List.of("title 4", "title 2"), articles.stream().map(NewsArticle::getTitle).toList());
+        assertArrayEquals(new int[]{4, -1, 2, 1, 3}, ids);
+
+        int[] timed = {0, 3, 4};
+        long[] publishedAt = new long[timed.length];
+        pool.readPublishedAt(timed, publishedAt);
+        assertArrayEquals(new int[]{-1, 3, 4}, timed);
+        assertEquals(1_700_000_000_003L, publishedAt[1]);
+        assertEquals(1_700_000_000_004L, publishedAt[2]);
+    }
+
+    @Test
+    void sourcesAndCategoriesAreDictionaryCoded() {
+        pool.add(article(0, "Reuters"));
+        pool.add(article(1, "AP"));
+        pool.add(article(2, "Reuters"));
+        // evicts article 0, whose source code must keep decoding for article 2
+        pool.add(article(3, "AP"));
+
+        assertEquals(2, pool.getDistinctSources());
+        assertEquals("Reuters", pool.get(2).getSource());
+        assertEquals("AP", pool.get(3).getSource());
+        assertEquals("politics", pool.get(2).getCategory());
+        assertEquals("economy", pool.get(3).getCategory());
+    }
+
+    @Test
+    void dictionaryCodesAreStableAndZeroMeansNull() {
+        NewsArticlePool.StringDictionary dictionary = new NewsArticlePool.StringDictionary();
+
+        assertEquals(0, dictionary.encode(null));
+        int reuters = dictionary.encode("Reuters");
+        int ap = dictionary.encode("AP");
+        assertEquals(1, reuters);
+        assertEquals(2, ap);
+        assertEquals(reuters, dictionary.encode("Reuters"));
+
+        assertNull(dictionary.decode(0));
+        assertEquals("Reuters", dictionary.decode(reuters));
+        assertEquals("AP", dictionary.decode(ap));
+        assertEquals(2, dictionary.size());
+    }
+}
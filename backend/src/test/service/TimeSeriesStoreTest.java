@@ -0,0 +1,186 @@
+package com.geopulse.service;
+
+import com.geopulse.model.CountryInfo;
+import com.geopulse.model.TimeSeriesPoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeSeriesStoreTest {
+
+    // negative deltas, zero and a value that needs all three decimals of the fixed-point scale
+    private static final double[] RISKS = {42.5, 17.25, 0.0, 99.999, 3.001, 55.0, 54.999, 100.0, 12.75, 60.125};
+
+    @TempDir
+    Path dataDir;
+
+    private TimeSeriesStore store() {
+        TimeSeriesStore store = new TimeSeriesStore();
+        ReflectionTestUtils.setField(store, "dataDir", dataDir.toString());
+        ReflectionTestUtils.setField(store, "segmentPoints", 4);
+        ReflectionTestUtils.setField(store, "rawRetentionDays", 30);
+        ReflectionTestUtils.setField(store, "hourlyRetentionDays", 90);
+        ReflectionTestUtils.setField(store, "dailyRetentionDays", 730);
+        store.loadExisting();
+        return store;
+    }
+
+    private static void record(TimeSeriesStore store, double... risks) {
+        for (double risk : risks) {
+            CountryInfo info = new CountryInfo();
+            info.setCountryName("Germany");
+            info.setRegion("Europe");
+            info.setGeopoliticalRiskIndex(risk);
+            store.recordRisk(info);
+        }
+    }
+
+    private static List<TimeSeriesPoint> query(TimeSeriesStore store, TimeSeriesStore.Resolution resolution) {
+        Instant now = Instant.now();
+        return store.query("germany", TimeSeriesStore.RISK, now.minus(Duration.ofDays(1)), now.plusSeconds(60),
+            resolution);
+    }
+
+    private static void assertRawValues(double[] expected, List<TimeSeriesPoint> points) {
+        assertEquals(expected.length, points.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], points.get(i).getValue(), 1e-9);
+            if (i > 0) {
+                assertFalse(points.get(i).getTimestamp().isBefore(points.get(i - 1).getTimestamp()));
+            }
+        }
+    }
+
+    private static long rolledUpCount(List<TimeSeriesPoint> points) {
+        return points.stream().mapToLong(TimeSeriesPoint::getCount).sum();
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dataDir.resolve("germany__risk"))) {
+            return files.filter(file -> file.toString().endsWith(".seg")).count();
+        }
+    }
+
+    @Test
+    void rawPointsRoundTripThroughSegmentsAndTheActiveBlock() throws IOException {
+        TimeSeriesStore store = store();
+        record(store, RISKS);
+
+        // 10 points with 4 per segment: two sealed segments plus two points still in memory
+        assertEquals(2, segmentFiles());
+        assertRawValues(RISKS, query(store, TimeSeriesStore.Resolution.RAW));
+    }
+
+    @Test
+    void sealedSeriesReloadsUnchanged() {
+        TimeSeriesStore store = store();
+        record(store, RISKS);
+        store.sealAll();
+
+        TimeSeriesStore reloaded = store();
+        assertRawValues(RISKS, query(reloaded, TimeSeriesStore.Resolution.RAW));
+        assertEquals(RISKS.length, rolledUpCount(query(reloaded, TimeSeriesStore.Resolution.HOUR)));
+        assertEquals(RISKS.length, rolledUpCount(query(reloaded, TimeSeriesStore.Resolution.DAY)));
+    }
+
+    @Test
+    void checkpointedBlockSurvivesACrash() {
+        TimeSeriesStore store = store();
+        record(store, RISKS);
+        store.checkpointAll();
+        // no sealAll: the process died with two points only in the checkpoint
+
+        TimeSeriesStore reloaded = store();
+        assertRawValues(RISKS, query(reloaded, TimeSeriesStore.Resolution.RAW));
+        assertEquals(RISKS.length, rolledUpCount(query(reloaded, TimeSeriesStore.Resolution.HOUR)));
+
+        // restoring the checkpoint again must not count its points twice
+        TimeSeriesStore again = store();
+        assertRawValues(RISKS, query(again, TimeSeriesStore.Resolution.RAW));
+        assertEquals(RISKS.length, rolledUpCount(query(again, TimeSeriesStore.Resolution.HOUR)));
+    }
+
+    @Test
+    void restoredBlockKeepsAppendingAfterARestart() {
+        TimeSeriesStore store = store();
+        record(store, 1.0, 2.0);
+        store.checkpointAll();
+
+        TimeSeriesStore reloaded = store();
+        record(reloaded, 3.0, 4.0, 5.0);
+        reloaded.sealAll();
+
+        assertRawValues(new double[]{1.0, 2.0, 3.0, 4.0, 5.0}, query(store(), TimeSeriesStore.Resolution.RAW));
+    }
+
+    @Test
+    void rollupsAreRebuiltFromSegmentsWhenTheirFileIsMissing() throws IOException {
+        TimeSeriesStore store = store();
+        record(store, RISKS);
+        store.sealAll();
+        Files.delete(dataDir.resolve("germany__risk").resolve("rollups.bin"));
+
+        List<TimeSeriesPoint> daily = query(store(), TimeSeriesStore.Resolution.DAY);
+        assertEquals(RISKS.length, rolledUpCount(daily));
+        assertEquals(100.0, daily.stream().mapToDouble(TimeSeriesPoint::getMax).max().orElse(0), 1e-9);
+        assertEquals(0.0, daily.stream().mapToDouble(TimeSeriesPoint::getMin).min().orElse(-1), 1e-9);
+    }
+
+    @Test
+    void expiredSegmentsAreDeletedAtStartup() throws IOException {
+        TimeSeriesStore store = store();
+        record(store, RISKS);
+        store.sealAll();
+
+        // a copy of a real segment, named as if it were written two months ago
+        Path series = dataDir.resolve("germany__risk");
+        Path segment;
+        try (Stream<Path> files = Files.list(series)) {
+            segment = files.filter(file -> file.toString().endsWith(".seg")).findFirst().orElseThrow();
+        }
+        long old = Instant.now().minus(Duration.ofDays(60)).toEpochMilli();
+        Path expired = series.resolve(old + "-" + (old + 1000) + ".seg");
+        Files.copy(segment, expired);
+
+        store();
+        assertFalse(Files.exists(expired));
+        assertTrue(Files.exists(segment));
+    }
+
+    @Test
+    void riskRollupsAverageAndNewsVolumeRollupsTotal() {
+        TimeSeriesStore store = store();
+        record(store, 10.0, 20.0);
+
+        Instant now = Instant.now();
+        Instant from = now.minus(Duration.ofHours(2));
+        Instant to = now.plusSeconds(60);
+        List<TimeSeriesPoint> risk = store.queryRegion("Europe", TimeSeriesStore.RISK, from, to,
+            TimeSeriesStore.Resolution.HOUR);
+        assertEquals(2, rolledUpCount(risk));
+        for (TimeSeriesPoint point : risk) {
+            assertEquals(point.getSum() / point.getCount(), point.getValue(), 1e-9);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            store.countArticle("Germany");
+            store.countArticle("Germany");
+            store.flushNewsVolume();
+        }
+        List<TimeSeriesPoint> news = store.queryRegion("Europe", TimeSeriesStore.NEWS_VOLUME, from, to,
+            TimeSeriesStore.Resolution.HOUR);
+        assertEquals(6.0, news.stream().mapToDouble(TimeSeriesPoint::getValue).sum(), 1e-9);
+    }
+}
@@ -1,14 +1,36 @@
-import React, { useState } from 'react';
+import React, { useState, useEffect } from 'react';
 import CountrySearch from './components/CountrySearch';
 import CountryDashboard from './components/CountryDashboard';
 import LoadingSpinner from './components/LoadingSpinner';
-import { searchCountry } from './services/apiService';
+import { streamCountry, subscribeToCountryNews } from './services/apiService';
 
 function App() {
   const [countryData, setCountryData] = useState(null);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState(null);
 
+  const countryName = countryData ? countryData.countryName : null;
+
+  // live headlines pushed from the backend instead of re-fetching the country
+  useEffect(() => {
+    if (!countryName) return undefined;
+
+    const unsubscribe = subscribeToCountryNews(countryName, (articles) => {
+      setCountryData((current) => {
+        if (!current || current.countryName !== countryName) return current;
+
+        const existing = current.news || [];
+        const seen = new Set(existing.map((article) => article.url));
+        const incoming = articles.filter((article) => !seen.has(article.url));
+        if (incoming.length === 0) return current;
+
+        return { ...current, news: [...incoming, ...existing].slice(0, 8) };
+      });
+    });
+
+    return unsubscribe;
+  }, [countryName]);
+
   const handleSearch = async (countryName) => {
     if (!countryName.trim()) return;
     
@@ -17,8 +39,23 @@ function App() {
     setCountryData(null);
 
     try {
-      const data = await searchCountry(countryName);
-      setCountryData(data);
+      // render as soon as the country facts land, news fills in afterwards
+      await streamCountry(countryName, {
+        onCountry: (data) => {
+          setCountryData({ ...data, news: [] });
+          setLoading(false);
+        },
+        onNews: (articles) => {
+          setCountryData((current) => {
+            if (!current) return current;
+
+            const existing = current.news || [];
+            const seen = new Set(existing.map((article) => article.url));
+            const incoming = articles.filter((article) => !seen.has(article.url));
+            return { ...current, news: [...existing, ...incoming].slice(0, 8) };
+          });
+        }
+      });
     } catch (err) {
       console.error('Search error:', err);
       setError(err.message || 'Failed to fetch country data. Please try again.');
@@ -59,6 +59,8 @@ apiClient.interceptors.response.use(
           throw new Error(message || 'Invalid request - please check your input');
         case 404:
           throw new Error('Country not found - please check the spelling and try again');
+        case 429:
+          throw new Error('Too many requests - please slow down and try again shortly');
         case 500:
           throw new Error('Server error - please try again later');
         case 503:
@@ -90,6 +92,84 @@ export const searchCountry = async (countryName) => {
   }
 };
 
+/**
+ * stream country information progressively (NDJSON)
+ * country facts arrive first, news batches follow as each feed completes
+ * @param {string} countryName - name of the country to search for
+ * @param {Object} handlers - { onCountry, onNews } callbacks
+ * @returns {Promise<void>} resolves once the stream has finished
+ */
+export const streamCountry = async (countryName, { onCountry, onNews }) => {
+  const url = `${API_BASE_URL}/countries/${encodeURIComponent(countryName)}/stream`;
+  const response = await fetch(url, { credentials: 'include' });
+
+  if (!response.body) {
+    throw new Error('Streaming not supported - please try again');
+  }
+
+  const reader = response.body.getReader();
+  const decoder = new TextDecoder();
+  let buffer = '';
+
+  const handleLine = (line) => {
+    if (!line.trim()) return;
+
+    const message = JSON.parse(line);
+    switch (message.type) {
+      case 'country':
+        onCountry(message.data);
+        break;
+      case 'news':
+        onNews(message.data);
+        break;
+      case 'error':
+        throw new Error(message.data.message);
+      default:
+        break;
+    }
+  };
+
+  for (;;) {
+    const { done, value } = await reader.read();
+    if (done) break;
+
+    buffer += decoder.decode(value, { stream: true });
+    const lines = buffer.split('\n');
+    buffer = lines.pop();
+    lines.forEach(handleLine);
+  }
+
+  handleLine(buffer);
+};
+
+/**
+ * subscribe to live news updates for a country (server-sent events)
+ * @param {string} countryName - name of the country to follow
+ * @param {Function} onArticles - called with an array of new articles
+ * @returns {Function} unsubscribe function that closes the stream
+ */
+export const subscribeToCountryNews = (countryName, onArticles) => {
+  const url = `${API_BASE_URL}/countries/${encodeURIComponent(countryName)}/news/stream`;
+  const source = new EventSource(url, { withCredentials: true });
+
+  const handleEvent = (event) => {
+    try {
+      onArticles(JSON.parse(event.data));
+    } catch (error) {
+      console.error('Failed to parse news update:', error);
+    }
+  };
+
+  source.addEventListener('snapshot', handleEvent);
+  source.addEventListener('news', handleEvent);
+  source.onerror = (error) => {
+    // EventSource reconnects on its own, just log it
+    console.warn('News stream interrupted:', error);
+  };
+
+  return () => source.close();
+};
+
 /**
  * get country suggestions for autocomplete
  * @param {string} query - search query for country suggestions
@@ -109,6 +189,23 @@ export const getCountrySuggestions = async (query) => {
   }
 };
 
+/**
+ * full text search over recently ingested news articles
+ * @param {string} query - search terms
+ * @param {number} page - zero-based page number
+ * @param {number} size - results per page
+ * @returns {Promise<Object>} ranked results with paging info
+ */
+export const searchNews = async (query, page = 0, size = 10) => {
+  try {
+    const response = await apiClient.get('/news/search', { params: { q: query, page, size } });
+    return response.data;
+  } catch (error) {
+    console.error('News search failed:', error);
+    throw error;
+  }
+};
+
 /**
  * check API health status
  * @returns {Promise<Object>} health status information
@@ -139,7 +236,10 @@ export const getServiceStatus = async () => {
 
 export default {
   searchCountry,
+  streamCountry,
+  subscribeToCountryNews,
   getCountrySuggestions,
+  searchNews,
   checkHealthStatus,
   getServiceStatus
 };
\ No newline at end of file